@@ -0,0 +1,20 @@
+package com.eventticket.common.instrumentation;
+
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables latency timers on the service's hot paths; see {@link MethodTimingAspect}. Spring Data
+ * repositories are already timed by Spring Boot as {@code spring.data.repository.invocations}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Import(InstrumentationConfiguration.class)
+public @interface EnableInstrumentation {
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.eventticket.common.instrumentation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import java.time.Duration;
+
+/**
+ * Beans behind {@link EnableInstrumentation}.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableAspectJAutoProxy
+public class InstrumentationConfiguration {
+    
+    @Bean
+    public MethodTimingAspect methodTimingAspect(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            // Client-side percentiles cannot be aggregated across instances; the histogram can
+            @Value("${app.instrumentation.percentiles:}") double[] percentiles,
+            @Value("${app.instrumentation.percentile-histogram:true}") boolean percentileHistogram,
+            @Value("${app.instrumentation.expiry:PT1M}") Duration expiry) {
+        return new MethodTimingAspect(meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+                percentiles, percentileHistogram, expiry);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.eventticket.common.instrumentation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times application services, domain ports and payment strategies as {@code app.method.duration},
+ * tagged with the layer, the implementing class, the method and the outcome.
+ *
+ * <p>A percentile histogram is published for server-side aggregation in Prometheus; client-side
+ * percentiles are off unless {@code app.instrumentation.percentiles} lists some. Timers are
+ * resolved once per class and method, so an invocation costs two {@code nanoTime} calls and a map
+ * lookup.</p>
+ *
+ * <p>Only the outermost bean of a service call is timed. When a service decorator such as a
+ * caching layer delegates the same method to the next implementation on the same thread, the inner
+ * calls are not timed again, so each request is recorded once, under the class it entered
+ * through. Calls count as the same when they implement the same method of the same
+ * {@code application.service} interface.</p>
+ */
+@Aspect
+public class MethodTimingAspect {
+    
+    private static final String METRIC = "app.method.duration";
+    
+    private final MeterRegistry meterRegistry;
+    private final double[] percentiles;
+    private final boolean percentileHistogram;
+    private final Duration expiry;
+    private final Map<Class<?>, Map<Method, Timer[]>> timers = new ConcurrentHashMap<>();
+    
+    // Executed method to the service interface method it implements, or to itself if none
+    private final Map<Method, Method> serviceMethods = new ConcurrentHashMap<>();
+    
+    // The service method being timed on this thread, if any
+    private final ThreadLocal<Method> currentService = new ThreadLocal<>();
+    
+    MethodTimingAspect(MeterRegistry meterRegistry, double[] percentiles, boolean percentileHistogram, Duration expiry) {
+        this.meterRegistry = meterRegistry;
+        this.percentiles = percentiles;
+        this.percentileHistogram = percentileHistogram;
+        this.expiry = expiry;
+    }
+    
+    @Around("execution(public * com.eventticket..application.service.*+.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = serviceMethods.computeIfAbsent(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), MethodTimingAspect::serviceMethod);
+        Method outer = currentService.get();
+        if (method.equals(outer)) {
+            return joinPoint.proceed();
+        }
+        
+        currentService.set(method);
+        try {
+            return time(joinPoint, "service");
+        } finally {
+            if (outer == null) {
+                currentService.remove();
+            } else {
+                currentService.set(outer);
+            }
+        }
+    }
+    
+    @Around("execution(public * com.eventticket..domain.port.*+.*(..))")
+    public Object timePort(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "port");
+    }
+    
+    // Provider name and availability lookups are trivial and would only add noise
+    @Around("execution(public * com.eventticket..domain.strategy.*+.*(..)) " +
+            "&& !execution(* *.getProviderName()) && !execution(* *.isAvailable())")
+    public Object timeStrategy(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "strategy");
+    }
+    
+    private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        Timer[] outcomes = timersFor(joinPoint, layer);
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            outcomes[0].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable t) {
+            outcomes[1].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw t;
+        }
+    }
+    
+    private static Method serviceMethod(Method method) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(method.getDeclaringClass())) {
+            if (!type.getPackageName().endsWith(".application.service")) {
+                continue;
+            }
+            try {
+                return type.getMethod(method.getName(), method.getParameterTypes());
+            } catch (NoSuchMethodException e) {
+                // Declared by another interface of the class
+            }
+        }
+        return method;
+    }
+    
+    private Timer[] timersFor(ProceedingJoinPoint joinPoint, String layer) {
+        Class<?> type = joinPoint.getTarget().getClass();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Map<Method, Timer[]> byMethod = timers.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+        Timer[] outcomes = byMethod.get(method);
+        if (outcomes == null) {
+            outcomes = new Timer[] {
+                    timer(layer, type, method, "success"),
+                    timer(layer, type, method, "error")
+            };
+            byMethod.putIfAbsent(method, outcomes);
+        }
+        return outcomes;
+    }
+    
+    private Timer timer(String layer, Class<?> type, Method method, String outcome) {
+        return Timer.builder(METRIC)
+                .tag("layer", layer)
+                .tag("class", type.getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .publishPercentiles(percentiles)
+                .publishPercentileHistogram(percentileHistogram)
+                .distributionStatisticExpiry(expiry)
+                .register(meterRegistry);
+    }
+}
\ No newline at end of file
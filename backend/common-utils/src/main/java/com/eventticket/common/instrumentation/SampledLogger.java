@@ -0,0 +1,92 @@
+package com.eventticket.common.instrumentation;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate-limited view of a logger for messages written on every request. At most
+ * {@code permitsPerWindow} messages are written per window; the rest are counted and reported as
+ * one summary line when the next window opens. Suppressed calls cost a level check and an atomic
+ * increment, and the fixed-arity overloads avoid allocating a varargs array.
+ */
+public final class SampledLogger {
+    
+    private final Logger logger;
+    private final int permitsPerWindow;
+    private final long windowNanos;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger used = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+    
+    private SampledLogger(Logger logger, int permitsPerWindow, Duration window) {
+        this.logger = logger;
+        this.permitsPerWindow = permitsPerWindow;
+        this.windowNanos = window.toNanos();
+    }
+    
+    public static SampledLogger perSecond(Logger logger, int permits) {
+        return new SampledLogger(logger, permits, Duration.ofSeconds(1));
+    }
+    
+    public static SampledLogger of(Logger logger, int permits, Duration window) {
+        return new SampledLogger(logger, permits, window);
+    }
+    
+    public void info(String format, Object arg) {
+        if (logger.isInfoEnabled() && acquire()) {
+            logger.info(format, arg);
+        }
+    }
+    
+    public void info(String format, Object arg1, Object arg2) {
+        if (logger.isInfoEnabled() && acquire()) {
+            logger.info(format, arg1, arg2);
+        }
+    }
+    
+    public void info(String format, Object... args) {
+        if (logger.isInfoEnabled() && acquire()) {
+            logger.info(format, args);
+        }
+    }
+    
+    public void debug(String format, Object arg) {
+        if (logger.isDebugEnabled() && acquire()) {
+            logger.debug(format, arg);
+        }
+    }
+    
+    public void debug(String format, Object arg1, Object arg2) {
+        if (logger.isDebugEnabled() && acquire()) {
+            logger.debug(format, arg1, arg2);
+        }
+    }
+    
+    public void debug(String format, Object... args) {
+        if (logger.isDebugEnabled() && acquire()) {
+            logger.debug(format, args);
+        }
+    }
+    
+    private boolean acquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            used.set(0);
+            long dropped = suppressed.sumThenReset();
+            if (dropped > 0) {
+                logger.info("Suppressed {} sampled log messages in the last {} ms", dropped,
+                        (now - start) / 1_000_000);
+            }
+        }
+        if (used.incrementAndGet() <= permitsPerWindow) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.eventticket.common.outbox;
+
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables the transactional outbox: an {@link OutboxWriter} for recording domain events and an
+ * {@link OutboxRelay} that publishes them. The service's Flyway locations must include
+ * {@code classpath:db/outbox}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Import(OutboxConfiguration.class)
+public @interface EnableOutbox {
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.eventticket.common.outbox;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Local stand-in for Kafka, used in tests and when {@code app.outbox.broker=memory}. Keeps every
+ * message per topic in send order.
+ */
+public class InMemoryOutboxBroker implements OutboxBroker {
+    
+    private final Map<String, List<OutboxMessage>> topics = new ConcurrentHashMap<>();
+    
+    @Override
+    public CompletableFuture<Void> send(String topic, OutboxMessage message) {
+        topics.computeIfAbsent(topic, key -> new CopyOnWriteArrayList<>()).add(message);
+        return CompletableFuture.completedFuture(null);
+    }
+    
+    public List<OutboxMessage> getMessages(String topic) {
+        return List.copyOf(topics.getOrDefault(topic, List.of()));
+    }
+    
+    public void clear() {
+        topics.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.eventticket.common.outbox;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Publishes outbox messages to Kafka, keyed by aggregate ID so that each aggregate's events land on
+ * one partition in order.
+ */
+public class KafkaOutboxBroker implements OutboxBroker {
+    
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    
+    public KafkaOutboxBroker(KafkaTemplate<String, String> kafkaTemplate) {
+        this.kafkaTemplate = kafkaTemplate;
+    }
+    
+    @Override
+    public CompletableFuture<Void> send(String topic, OutboxMessage message) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(topic, message.aggregateId(), message.payload());
+        record.headers().add("event-type", message.eventType().getBytes(StandardCharsets.UTF_8));
+        // Consumers deduplicate on this: delivery is at-least-once
+        record.headers().add("outbox-id", Long.toString(message.id()).getBytes(StandardCharsets.UTF_8));
+        return kafkaTemplate.send(record).thenApply(result -> null);
+    }
+    
+    @Override
+    public void flush() {
+        kafkaTemplate.flush();
+    }
+}
\ No newline at end of file
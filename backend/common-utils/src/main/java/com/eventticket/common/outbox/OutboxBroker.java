@@ -0,0 +1,18 @@
+package com.eventticket.common.outbox;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Destination of relayed outbox messages. Messages with the same key must be delivered in the
+ * order they were sent.
+ */
+public interface OutboxBroker {
+    
+    CompletableFuture<Void> send(String topic, OutboxMessage message);
+    
+    /**
+     * Pushes out anything the broker client is still buffering.
+     */
+    default void flush() {
+    }
+}
\ No newline at end of file
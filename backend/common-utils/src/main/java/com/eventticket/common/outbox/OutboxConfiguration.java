@@ -0,0 +1,84 @@
+package com.eventticket.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Beans behind {@link EnableOutbox}. Kafka is used when {@code spring-kafka} is on the classpath and
+ * {@code app.outbox.broker} is not set to {@code memory}; otherwise the in-memory broker is used.
+ */
+@Configuration(proxyBeanMethods = false)
+public class OutboxConfiguration {
+    
+    @Bean
+    OutboxStore outboxStore(DataSource dataSource) {
+        return new OutboxStore(dataSource);
+    }
+    
+    @Bean
+    public OutboxWriter outboxWriter(OutboxStore outboxStore, ObjectMapper objectMapper) {
+        return new OutboxWriter(outboxStore, objectMapper);
+    }
+    
+    @Bean
+    public OutboxRelay outboxRelay(
+            OutboxStore outboxStore,
+            OutboxBroker outboxBroker,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.outbox.topic-prefix:eventticket.}") String topicPrefix,
+            @Value("${app.outbox.batch-size:500}") int batchSize,
+            @Value("${app.outbox.poll-interval:PT0.1S}") Duration pollInterval,
+            @Value("${app.outbox.send-timeout:PT10S}") Duration sendTimeout,
+            @Value("${app.outbox.claim-lease:PT2M}") Duration claimLease,
+            @Value("${app.outbox.retry-delay:PT5S}") Duration retryDelay) {
+        return new OutboxRelay(outboxStore, outboxBroker, meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+                topicPrefix, batchSize, pollInterval, sendTimeout, claimLease, retryDelay);
+    }
+    
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(KafkaTemplate.class)
+    @ConditionalOnProperty(name = "app.outbox.broker", havingValue = "kafka", matchIfMissing = true)
+    static class KafkaBrokerConfiguration {
+        
+        @Bean
+        public OutboxBroker kafkaOutboxBroker(
+                @Value("${spring.kafka.bootstrap-servers:localhost:9092}") String bootstrapServers,
+                @Value("${app.outbox.kafka.compression-type:lz4}") String compressionType,
+                @Value("${app.outbox.kafka.linger-ms:20}") int lingerMillis,
+                @Value("${app.outbox.kafka.batch-bytes:262144}") int batchBytes) {
+            // Idempotence keeps per-partition order across producer retries
+            Map<String, Object> config = Map.of(
+                    ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                    ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                    ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                    ProducerConfig.ACKS_CONFIG, "all",
+                    ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
+                    ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType,
+                    ProducerConfig.LINGER_MS_CONFIG, lingerMillis,
+                    ProducerConfig.BATCH_SIZE_CONFIG, batchBytes);
+            return new KafkaOutboxBroker(new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(config)));
+        }
+    }
+    
+    @Bean
+    @ConditionalOnMissingBean(OutboxBroker.class)
+    public OutboxBroker inMemoryOutboxBroker() {
+        return new InMemoryOutboxBroker();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.eventticket.common.outbox;
+
+import java.time.Instant;
+
+/**
+ * A domain event as stored in the outbox table. {@code id} grows with insertion order, which is
+ * also the publishing order.
+ */
+public record OutboxMessage(
+        long id,
+        String aggregateType,
+        String aggregateId,
+        String eventType,
+        String payload,
+        Instant createdAt) {
+}
\ No newline at end of file
@@ -0,0 +1,196 @@
+package com.eventticket.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Moves outbox rows to the broker. A relay thread claims the oldest rows in batches and deletes the
+ * acknowledged rows in one JDBC batch. Within a batch, messages are sent in rounds: each round sends
+ * the next message of every aggregate at once and waits for their acknowledgements, so an
+ * aggregate's next message only leaves once the previous one is acknowledged. An aggregate whose
+ * send fails is held back for the retry delay while the others carry on, so each aggregate's events
+ * are published in order, at least once.
+ *
+ * <p>Only the claim runs in a transaction holding the store's relay lock; it locks the rows for a
+ * lease and commits before anything is sent, so no connection is held while waiting on the broker.
+ * Claims skip aggregates with locked rows, so with several instances no aggregate is relayed by two
+ * at once. Rounds stop before the lease runs out and the unsent rows are released; rows of a relay
+ * that died are claimed again once their lease expires.</p>
+ */
+@Slf4j
+public class OutboxRelay {
+    
+    private final OutboxStore store;
+    private final OutboxBroker broker;
+    private final String topicPrefix;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration sendTimeout;
+    private final Duration claimLease;
+    private final Duration retryDelay;
+    
+    private final Timer lag;
+    private final Counter published;
+    private final Counter failed;
+    private final DistributionSummary batchSizes;
+    
+    private ScheduledExecutorService poller;
+    
+    OutboxRelay(OutboxStore store, OutboxBroker broker, MeterRegistry meterRegistry,
+                String topicPrefix, int batchSize, Duration pollInterval, Duration sendTimeout,
+                Duration claimLease, Duration retryDelay) {
+        if (claimLease.compareTo(sendTimeout) <= 0) {
+            throw new IllegalArgumentException("Outbox claim lease " + claimLease + " must exceed the send timeout " + sendTimeout);
+        }
+        this.store = store;
+        this.broker = broker;
+        this.topicPrefix = topicPrefix;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.sendTimeout = sendTimeout;
+        this.claimLease = claimLease;
+        this.retryDelay = retryDelay;
+        
+        this.lag = Timer.builder("outbox.relay.lag")
+                .description("Time from writing an outbox event to its acknowledgement by the broker")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.published = Counter.builder("outbox.relay.published").register(meterRegistry);
+        this.failed = Counter.builder("outbox.relay.failed").register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("outbox.relay.batch.size").register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void start() {
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = pollInterval.toMillis();
+        poller.scheduleWithFixedDelay(this::relay, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Outbox relay started with batch size {} and poll interval {}", batchSize, pollInterval);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        poller.shutdown();
+    }
+    
+    void relay() {
+        try {
+            // Keep draining while batches come back full; held-back aggregates are not claimed again
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Outbox relay run failed", e);
+        }
+    }
+    
+    private int relayBatch() {
+        List<OutboxMessage> batch = store.withRelayLock(() -> store.claim(batchSize, claimLease)).orElse(List.of());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        batchSizes.record(batch.size());
+        // The last round must end while the rows are still claimed
+        long lastRoundStart = System.nanoTime() + claimLease.minus(sendTimeout).toNanos();
+        
+        // Each aggregate's messages in id order
+        Map<String, Deque<OutboxMessage>> pending = new LinkedHashMap<>();
+        for (OutboxMessage message : batch) {
+            pending.computeIfAbsent(aggregateKey(message), key -> new ArrayDeque<>()).add(message);
+        }
+        
+        List<Long> acknowledged = new ArrayList<>(batch.size());
+        List<Long> heldBack = new ArrayList<>();
+        List<Long> released = new ArrayList<>();
+        while (!pending.isEmpty() && System.nanoTime() - lastRoundStart < 0) {
+            List<OutboxMessage> round = new ArrayList<>(pending.size());
+            List<CompletableFuture<Void>> sends = new ArrayList<>(pending.size());
+            for (Deque<OutboxMessage> messages : pending.values()) {
+                OutboxMessage message = messages.peekFirst();
+                round.add(message);
+                sends.add(broker.send(topicPrefix + message.aggregateType(), message));
+            }
+            broker.flush();
+            
+            long roundDeadline = System.nanoTime() + sendTimeout.toNanos();
+            for (int i = 0; i < round.size(); i++) {
+                OutboxMessage message = round.get(i);
+                String key = aggregateKey(message);
+                if (!awaitSend(sends.get(i), message, roundDeadline)) {
+                    // Nothing after a failed message may overtake it
+                    Deque<OutboxMessage> messages = pending.remove(key);
+                    heldBack.add(messages.pollFirst().id());
+                    messages.forEach(rest -> released.add(rest.id()));
+                    continue;
+                }
+                acknowledged.add(message.id());
+                lag.record(Duration.between(message.createdAt(), Instant.now()));
+                Deque<OutboxMessage> messages = pending.get(key);
+                messages.pollFirst();
+                if (messages.isEmpty()) {
+                    pending.remove(key);
+                }
+            }
+        }
+        
+        // Messages not reached before the lease ran short go back to be claimed again
+        pending.values().forEach(messages -> messages.forEach(rest -> released.add(rest.id())));
+        
+        if (!acknowledged.isEmpty()) {
+            store.delete(acknowledged);
+            published.increment(acknowledged.size());
+        }
+        if (!heldBack.isEmpty()) {
+            store.holdBack(heldBack, retryDelay);
+        }
+        if (!released.isEmpty()) {
+            store.release(released);
+        }
+        return batch.size();
+    }
+    
+    private static String aggregateKey(OutboxMessage message) {
+        return message.aggregateType() + ':' + message.aggregateId();
+    }
+    
+    // All sends of a round share one deadline, so a round takes at most the send timeout
+    private boolean awaitSend(CompletableFuture<Void> send, OutboxMessage message, long deadline) {
+        try {
+            send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Failed to publish outbox event {} ({}) for {} {}", message.id(), message.eventType(),
+                    message.aggregateType(), message.aggregateId(), e);
+            failed.increment();
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
\ No newline at end of file
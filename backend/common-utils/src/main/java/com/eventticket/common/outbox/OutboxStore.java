@@ -0,0 +1,106 @@
+package com.eventticket.common.outbox;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * JDBC access to the {@code outbox_events} table. Plain JDBC joins whatever transaction is bound to
+ * the data source, including a JPA transaction, so no entity scanning is needed in the services.
+ */
+class OutboxStore {
+    
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> new OutboxMessage(
+            rs.getLong("id"),
+            rs.getString("aggregate_type"),
+            rs.getString("aggregate_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toInstant());
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate relayTransaction;
+    
+    OutboxStore(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.relayTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+    
+    /**
+     * Runs {@code work} in a transaction holding the exclusive relay application lock, or returns
+     * empty at once if another relay holds it. The lock is released when the transaction ends.
+     */
+    <T> Optional<T> withRelayLock(Supplier<T> work) {
+        return Optional.ofNullable(relayTransaction.execute(status -> {
+            Integer result = jdbcTemplate.queryForObject(
+                    "SET NOCOUNT ON; DECLARE @result INT; "
+                            + "EXEC @result = sp_getapplock @Resource = 'outbox_relay', @LockMode = 'Exclusive', "
+                            + "@LockOwner = 'Transaction', @LockTimeout = 0; "
+                            + "SELECT @result",
+                    Integer.class);
+            return result != null && result >= 0 ? work.get() : null;
+        }));
+    }
+    
+    void insert(String aggregateType, String aggregateId, String eventType, String payload, Instant createdAt) {
+        jdbcTemplate.update(
+                "INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at) VALUES (?, ?, ?, ?, ?)",
+                aggregateType, aggregateId, eventType, payload, Timestamp.from(createdAt));
+    }
+    
+    /**
+     * Locks up to {@code limit} of the oldest rows for {@code lease} and returns them in id order.
+     * Aggregates with any locked row, claimed by a relay or held back after a failed send, are
+     * skipped as a whole, so one stuck aggregate does not stop the others and no aggregate is
+     * relayed by two runs at once. Call under {@link #withRelayLock} so claims do not race.
+     */
+    List<OutboxMessage> claim(int limit, Duration lease) {
+        List<OutboxMessage> claimed = jdbcTemplate.query(
+                "WITH claimable AS ("
+                        + " SELECT TOP (?) id, aggregate_type, aggregate_id, event_type, payload, created_at, locked_until"
+                        + " FROM outbox_events o"
+                        + " WHERE NOT EXISTS (SELECT 1 FROM outbox_events l"
+                        + " WHERE l.aggregate_type = o.aggregate_type AND l.aggregate_id = o.aggregate_id"
+                        + " AND l.locked_until > SYSUTCDATETIME())"
+                        + " ORDER BY id)"
+                        + " UPDATE claimable SET locked_until = DATEADD(millisecond, ?, SYSUTCDATETIME())"
+                        + " OUTPUT inserted.id, inserted.aggregate_type, inserted.aggregate_id, inserted.event_type,"
+                        + " inserted.payload, inserted.created_at",
+                ROW_MAPPER, limit, lease.toMillis());
+        // OUTPUT rows come back in no particular order
+        claimed.sort(Comparator.comparingLong(OutboxMessage::id));
+        return claimed;
+    }
+    
+    /**
+     * Keeps the failed head of each aggregate locked for {@code delay}, which holds back the whole
+     * aggregate until then.
+     */
+    void holdBack(List<Long> ids, Duration delay) {
+        jdbcTemplate.batchUpdate("UPDATE outbox_events SET locked_until = DATEADD(millisecond, ?, SYSUTCDATETIME()) WHERE id = ?",
+                ids, ids.size(), (ps, id) -> {
+                    ps.setLong(1, delay.toMillis());
+                    ps.setLong(2, id);
+                });
+    }
+    
+    void release(List<Long> ids) {
+        jdbcTemplate.batchUpdate("UPDATE outbox_events SET locked_until = NULL WHERE id = ?", ids, ids.size(),
+                (ps, id) -> ps.setLong(1, id));
+    }
+    
+    void delete(List<Long> ids) {
+        jdbcTemplate.batchUpdate("DELETE FROM outbox_events WHERE id = ?", ids, ids.size(),
+                (ps, id) -> ps.setLong(1, id));
+    }
+}
\ No newline at end of file
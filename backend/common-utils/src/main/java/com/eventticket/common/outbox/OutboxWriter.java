@@ -0,0 +1,36 @@
+package com.eventticket.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+
+/**
+ * Records domain events in the outbox table as part of the caller's transaction, so an event is
+ * stored if and only if the state change that produced it commits.
+ */
+public class OutboxWriter {
+    
+    private final OutboxStore store;
+    private final ObjectMapper objectMapper;
+    
+    OutboxWriter(OutboxStore store, ObjectMapper objectMapper) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+    }
+    
+    public void append(String aggregateType, Object aggregateId, String eventType, Object payload) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox events must be written inside the transaction that changes the aggregate");
+        }
+        
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + eventType + " payload", e);
+        }
+        store.insert(aggregateType, String.valueOf(aggregateId), eventType, json, Instant.now());
+    }
+}
\ No newline at end of file
@@ -1,57 +1,46 @@
 package com.eventticket.common.response;
 
+import com.eventticket.common.utils.TimeUtils;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDateTime;
-
+/**
+ * Envelope for every REST response, written by {@link ApiResponseSerializer}. The factories stamp
+ * it with {@link TimeUtils#currentMillis()}, so tests that pin the clock pin the timestamp too.
+ * The timestamp is kept as epoch millis and only turned into an ISO local date-time in the clock's
+ * zone when the response is written; 0 leaves it out.
+ */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = ApiResponseSerializer.class)
 public class ApiResponse<T> {
     
     private boolean success;
     private String message;
     private T data;
-    private LocalDateTime timestamp;
+    private long timestamp;
     private String errorCode;
     
     public static <T> ApiResponse<T> success(T data) {
-        return ApiResponse.<T>builder()
-                .success(true)
-                .data(data)
-                .timestamp(LocalDateTime.now())
-                .build();
+        return new ApiResponse<>(true, null, data, TimeUtils.currentMillis(), null);
     }
     
     public static <T> ApiResponse<T> success(T data, String message) {
-        return ApiResponse.<T>builder()
-                .success(true)
-                .data(data)
-                .message(message)
-                .timestamp(LocalDateTime.now())
-                .build();
+        return new ApiResponse<>(true, message, data, TimeUtils.currentMillis(), null);
     }
     
     public static <T> ApiResponse<T> error(String message) {
-        return ApiResponse.<T>builder()
-                .success(false)
-                .message(message)
-                .timestamp(LocalDateTime.now())
-                .build();
+        return new ApiResponse<>(false, message, null, TimeUtils.currentMillis(), null);
     }
     
     public static <T> ApiResponse<T> error(String message, String errorCode) {
-        return ApiResponse.<T>builder()
-                .success(false)
-                .message(message)
-                .errorCode(errorCode)
-                .timestamp(LocalDateTime.now())
-                .build();
+        return new ApiResponse<>(false, message, null, TimeUtils.currentMillis(), errorCode);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.eventticket.common.response;
+
+import com.eventticket.common.utils.TimeUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes the response envelope field by field instead of going through the generic bean
+ * serializer, keeping its wire format: fields in declaration order and nulls omitted. Property
+ * names come from the mapper's own introspection, so a configured naming strategy or
+ * {@code @JsonProperty} still applies, and the timestamp uses the mapper's {@link LocalDateTime}
+ * serializer and date settings. Both are resolved once per mapper, when Jackson contextualizes the
+ * serializer; only {@code data} is looked up per response.
+ *
+ * <p>With the stock ISO {@link LocalDateTime} output the epoch-millis timestamp is formatted here
+ * directly, and the text is reused for every response stamped in the same millisecond; any other
+ * configuration gets a {@link LocalDateTime} handed to the mapper's serializer.</p>
+ */
+class ApiResponseSerializer extends StdSerializer<ApiResponse<?>> implements ContextualSerializer {
+    
+    private final SerializedString success;
+    private final SerializedString message;
+    private final SerializedString data;
+    private final SerializedString timestamp;
+    private final SerializedString errorCode;
+    private final JsonSerializer<Object> timestampSerializer;
+    private final boolean isoTimestamp;
+    
+    // Last timestamp formatted on the ISO path, shared by all responses in the same millisecond
+    private static volatile FormattedTimestamp lastFormatted = new FormattedTimestamp(0, null, null);
+    
+    ApiResponseSerializer() {
+        this(Map.of(), null);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private ApiResponseSerializer(Map<String, String> names, JsonSerializer<Object> timestampSerializer) {
+        super((Class<ApiResponse<?>>) (Class<?>) ApiResponse.class);
+        this.success = name(names, "success");
+        this.message = name(names, "message");
+        this.data = name(names, "data");
+        this.timestamp = name(names, "timestamp");
+        this.errorCode = name(names, "errorCode");
+        this.timestampSerializer = timestampSerializer;
+        this.isoTimestamp = timestampSerializer != null && timestampSerializer.getClass() == LocalDateTimeSerializer.class;
+    }
+    
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        if (timestampSerializer != null) {
+            return this;
+        }
+        Map<String, String> names = new HashMap<>();
+        for (BeanPropertyDefinition definition : provider.getConfig()
+                .introspect(provider.constructType(ApiResponse.class)).findProperties()) {
+            names.put(definition.getInternalName(), definition.getName());
+        }
+        return new ApiResponseSerializer(names, provider.findValueSerializer(LocalDateTime.class));
+    }
+    
+    @Override
+    public void serialize(ApiResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(success);
+        gen.writeBoolean(value.isSuccess());
+        if (value.getMessage() != null) {
+            gen.writeFieldName(message);
+            gen.writeString(value.getMessage());
+        }
+        if (value.getData() != null) {
+            gen.writeFieldName(data);
+            provider.defaultSerializeValue(value.getData(), gen);
+        }
+        if (value.getTimestamp() != 0) {
+            gen.writeFieldName(timestamp);
+            ZoneId zone = TimeUtils.getClock().getZone();
+            if (isoTimestamp && !provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+                gen.writeString(formatIso(value.getTimestamp(), zone));
+            } else if (timestampSerializer != null) {
+                timestampSerializer.serialize(toLocalDateTime(value.getTimestamp(), zone), gen, provider);
+            } else {
+                provider.defaultSerializeValue(toLocalDateTime(value.getTimestamp(), zone), gen);
+            }
+        }
+        if (value.getErrorCode() != null) {
+            gen.writeFieldName(errorCode);
+            gen.writeString(value.getErrorCode());
+        }
+        gen.writeEndObject();
+    }
+    
+    private static SerializedString name(Map<String, String> names, String property) {
+        return new SerializedString(names.getOrDefault(property, property));
+    }
+    
+    private static LocalDateTime toLocalDateTime(long epochMillis, ZoneId zone) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone);
+    }
+    
+    // Same text as LocalDateTimeSerializer's default ISO_LOCAL_DATE_TIME output
+    private static String formatIso(long epochMillis, ZoneId zone) {
+        FormattedTimestamp last = lastFormatted;
+        if (last.epochMillis == epochMillis && zone.equals(last.zone)) {
+            return last.text;
+        }
+        String text = toLocalDateTime(epochMillis, zone).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        lastFormatted = new FormattedTimestamp(epochMillis, zone, text);
+        return text;
+    }
+    
+    private record FormattedTimestamp(long epochMillis, ZoneId zone, String text) {
+    }
+}
\ No newline at end of file
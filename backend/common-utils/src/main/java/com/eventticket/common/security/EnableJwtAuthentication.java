@@ -0,0 +1,22 @@
+package com.eventticket.common.security;
+
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables stateless bearer-token authentication: a {@link JwtVerifier} keyed by
+ * {@code app.jwt.secret}, a {@link JwtAuthenticationFilter} installed in a security filter chain
+ * that requires authentication outside {@code app.security.public-paths}, and method security for
+ * {@code @PreAuthorize}. The filter is not registered with the servlet container separately.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Import(JwtSecurityConfiguration.class)
+public @interface EnableJwtAuthentication {
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.eventticket.common.security;
+
+import lombok.Value;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The authenticated caller, as {@code authentication.principal} in {@code @PreAuthorize}
+ * expressions. Only the claims those checks need are kept.
+ */
+@Value
+public class JwtPrincipal {
+    UUID userId;
+    List<String> roles;
+    List<GrantedAuthority> authorities;
+}
\ No newline at end of file
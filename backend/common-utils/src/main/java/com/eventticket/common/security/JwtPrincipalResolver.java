@@ -0,0 +1,16 @@
+package com.eventticket.common.security;
+
+/**
+ * Replaces the principal read from a token before it is authenticated, typically to swap the roles
+ * frozen into the token for the caller's current ones so that role changes take effect before the
+ * token expires. Picked up by {@link EnableJwtAuthentication} when a service defines one as a bean.
+ */
+@FunctionalInterface
+public interface JwtPrincipalResolver {
+    
+    /**
+     * @return the principal to authenticate, or {@code null} to reject the token, for example
+     *         because its user no longer exists; the request then proceeds unauthenticated
+     */
+    JwtPrincipal resolve(JwtPrincipal fromToken);
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.eventticket.common.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.time.Duration;
+
+/**
+ * Beans behind {@link EnableJwtAuthentication}, including a stateless security filter chain that
+ * authenticates bearer tokens and requires an authenticated caller for every path not listed in
+ * {@code app.security.public-paths}. Finer rules are left to {@code @PreAuthorize}.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableWebSecurity
+@EnableMethodSecurity
+public class JwtSecurityConfiguration {
+    
+    @Bean
+    public JwtVerifier jwtVerifier(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.jwt.secret}") String secret,
+            @Value("${app.jwt.cache.max-size:100000}") long cacheSize,
+            @Value("${app.jwt.cache.ttl:PT5M}") Duration cacheTtl,
+            @Value("${app.jwt.clock-skew:PT30S}") Duration clockSkew) {
+        return new JwtVerifier(secret, meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+                cacheSize, cacheTtl, clockSkew);
+    }
+    
+    @Bean
+    public JwtAuthenticationFilter jwtAuthenticationFilter(
+            JwtVerifier jwtVerifier,
+            ObjectProvider<JwtPrincipalResolver> principalResolver) {
+        // Without a resolver the roles in the token are trusted until it expires
+        return new JwtAuthenticationFilter(jwtVerifier, principalResolver.getIfAvailable(() -> principal -> principal));
+    }
+    
+    // Runs inside the security filter chain only; as a plain servlet filter it would run twice
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(
+            JwtAuthenticationFilter jwtAuthenticationFilter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+    
+    @Bean
+    public SecurityFilterChain jwtSecurityFilterChain(
+            HttpSecurity http,
+            JwtAuthenticationFilter jwtAuthenticationFilter,
+            @Value("${app.security.public-paths:/actuator/health/**,/api-docs/**,/swagger-ui/**,/swagger-ui.html}") String[] publicPaths)
+            throws Exception {
+        return http
+                .csrf(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .authorizeHttpRequests(requests -> requests
+                        // Error dispatches carry no token; the original request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
+                        .requestMatchers(publicPaths).permitAll()
+                        .anyRequest().authenticated())
+                // Without a token there is nothing to challenge for; answer 401 rather than the default 403
+                .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .build();
+    }
+}
\ No newline at end of file
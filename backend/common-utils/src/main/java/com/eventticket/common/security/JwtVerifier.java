@@ -0,0 +1,225 @@
+package com.eventticket.common.security;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Verifies HMAC-signed JWTs (HS256, HS384, HS512) as issued by the user service.
+ *
+ * <p>The key is decoded once and each thread keeps initialized {@link Mac} instances, so a
+ * verification costs one HMAC and a streaming pass over the payload that keeps only {@code sub},
+ * {@code roles}, {@code exp} and {@code nbf}. Verified tokens are cached until they expire, capped
+ * at the cache TTL, so repeat requests with the same token skip both. The cache is keyed by the
+ * whole token: a key derived from part of it, such as the signature, would let a modified payload
+ * hit the entry of a genuine one.</p>
+ */
+@Slf4j
+public class JwtVerifier {
+    
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final String[] ALGORITHMS = {"HS256", "HS384", "HS512"};
+    private static final String[] MAC_ALGORITHMS = {"HmacSHA256", "HmacSHA384", "HmacSHA512"};
+    
+    private final List<ThreadLocal<Mac>> macs = new ArrayList<>(ALGORITHMS.length);
+    private final long clockSkewSeconds;
+    private final Cache<String, Verified> verified;
+    
+    JwtVerifier(String secret, MeterRegistry meterRegistry, long cacheSize, Duration cacheTtl, Duration clockSkew) {
+        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length < 32) {
+            log.warn("app.jwt.secret is shorter than 256 bits; tokens signed with it are weak");
+        }
+        for (String macAlgorithm : MAC_ALGORITHMS) {
+            SecretKeySpec key = new SecretKeySpec(keyBytes, macAlgorithm);
+            macs.add(ThreadLocal.withInitial(() -> {
+                try {
+                    Mac mac = Mac.getInstance(macAlgorithm);
+                    mac.init(key);
+                    return mac;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException(macAlgorithm + " is not available", e);
+                }
+            }));
+        }
+        this.clockSkewSeconds = clockSkew.toSeconds();
+        
+        long maxTtlNanos = cacheTtl.toNanos();
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new Expiry<String, Verified>() {
+                    @Override
+                    public long expireAfterCreate(String token, Verified entry, long currentTime) {
+                        long untilExpiry = Duration.ofSeconds(entry.expiresAt() + clockSkewSeconds - nowSeconds()).toNanos();
+                        return Math.max(0, Math.min(maxTtlNanos, untilExpiry));
+                    }
+                    
+                    @Override
+                    public long expireAfterUpdate(String token, Verified entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                    
+                    @Override
+                    public long expireAfterRead(String token, Verified entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwt-verified");
+    }
+    
+    /**
+     * Returns the principal if the token is well formed, correctly signed and currently valid.
+     */
+    public Optional<JwtPrincipal> verify(String token) {
+        Verified cached = verified.getIfPresent(token);
+        if (cached != null) {
+            // The cache expiry is only approximate, so recheck the token's own
+            return cached.expiresAt() + clockSkewSeconds > nowSeconds() ? Optional.of(cached.principal()) : Optional.empty();
+        }
+        
+        Verified entry = parse(token);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        verified.put(token, entry);
+        return Optional.of(entry.principal());
+    }
+    
+    private Verified parse(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (firstDot < 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+        
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            int algorithm = readAlgorithm(decoder.decode(token.substring(0, firstDot)));
+            if (algorithm < 0) {
+                log.debug("Rejected token with unsupported algorithm");
+                return null;
+            }
+            
+            Mac mac = macs.get(algorithm).get();
+            byte[] expected = mac.doFinal(token.substring(0, secondDot).getBytes(StandardCharsets.US_ASCII));
+            byte[] actual = decoder.decode(token.substring(secondDot + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                log.debug("Rejected token with invalid signature");
+                return null;
+            }
+            
+            Verified entry = readClaims(decoder.decode(token.substring(firstDot + 1, secondDot)));
+            if (entry == null) {
+                log.debug("Rejected token with missing, expired or not yet valid claims");
+            }
+            return entry;
+        } catch (IllegalArgumentException | IOException e) {
+            log.debug("Rejected malformed token: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    private static int readAlgorithm(byte[] header) throws IOException {
+        try (JsonParser parser = JSON.createParser(header)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return -1;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("alg".equals(field)) {
+                    String algorithm = parser.getValueAsString();
+                    for (int i = 0; i < ALGORITHMS.length; i++) {
+                        if (ALGORITHMS[i].equals(algorithm)) {
+                            return i;
+                        }
+                    }
+                    return -1;
+                }
+                parser.skipChildren();
+            }
+            return -1;
+        }
+    }
+    
+    private Verified readClaims(byte[] payload) throws IOException {
+        UUID userId = null;
+        List<String> roles = List.of();
+        long expiresAt = -1;
+        long notBefore = 0;
+        
+        try (JsonParser parser = JSON.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "sub" -> userId = value == JsonToken.VALUE_STRING ? UUID.fromString(parser.getText()) : null;
+                    case "exp" -> expiresAt = parser.getValueAsLong(-1);
+                    case "nbf" -> notBefore = parser.getValueAsLong(0);
+                    case "roles" -> roles = readRoles(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        
+        long now = nowSeconds();
+        if (userId == null || expiresAt + clockSkewSeconds <= now || notBefore - clockSkewSeconds > now) {
+            return null;
+        }
+        
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (String role : roles) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
+        }
+        return new Verified(new JwtPrincipal(userId, roles, List.copyOf(authorities)), expiresAt);
+    }
+    
+    private static List<String> readRoles(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return List.of();
+        }
+        List<String> roles = new ArrayList<>(4);
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == JsonToken.VALUE_STRING) {
+                roles.add(parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return List.copyOf(roles);
+    }
+    
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+    
+    private record Verified(JwtPrincipal principal, long expiresAt) {
+    }
+}
\ No newline at end of file
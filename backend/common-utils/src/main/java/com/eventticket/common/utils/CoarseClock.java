@@ -0,0 +1,66 @@
+package com.eventticket.common.utils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * Millisecond-resolution clock read from a field that a single daemon thread refreshes every
+ * millisecond. Reading it is a volatile load, which suits timestamps taken on every response;
+ * use {@link Clock#systemUTC()} where sub-millisecond precision or exact ordering matters.
+ */
+public final class CoarseClock extends Clock {
+    
+    private static volatile long currentMillis = System.currentTimeMillis();
+    
+    static {
+        Thread ticker = new Thread(CoarseClock::tick, "coarse-clock");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+    
+    private final ZoneId zone;
+    
+    private CoarseClock(ZoneId zone) {
+        this.zone = zone;
+    }
+    
+    public static CoarseClock systemDefaultZone() {
+        return new CoarseClock(ZoneId.systemDefault());
+    }
+    
+    public static long currentMillis() {
+        return currentMillis;
+    }
+    
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+    
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new CoarseClock(zone);
+    }
+    
+    @Override
+    public long millis() {
+        return currentMillis;
+    }
+    
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(currentMillis);
+    }
+    
+    private static void tick() {
+        while (true) {
+            currentMillis = System.currentTimeMillis();
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                // Daemon thread; keep ticking for as long as the JVM runs
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.eventticket.common.utils;
+
+import com.eventticket.common.exception.ApiException;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes a keyset position (a timestamp plus a UUID tie-breaker) as an opaque URL-safe token.
+ */
+public class CursorCodec {
+    
+    /**
+     * Largest page a keyset listing serves; each page reads one row more than it returns.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    private static final int LENGTH = Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+    
+    public static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw ApiException.badRequest("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+    
+    public static String encode(LocalDateTime timestamp, UUID id) {
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH);
+        buffer.putLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(timestamp.getNano());
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+    
+    public static Position decode(String cursor) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != LENGTH) {
+                throw ApiException.badRequest("Invalid cursor");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            LocalDateTime timestamp = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            return new Position(timestamp, new UUID(buffer.getLong(), buffer.getLong()));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw ApiException.badRequest("Invalid cursor");
+        }
+    }
+    
+    public record Position(LocalDateTime timestamp, UUID id) {
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.eventticket.common.utils;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -7,26 +8,62 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 
+/**
+ * Date and time helpers. "Now" comes from a replaceable {@link Clock}, by default a
+ * {@link CoarseClock} in the system zone captured at startup, so hot-path checks neither resolve
+ * the default zone nor read the system clock on every call. Tests can pin time with
+ * {@link #setClock(Clock)}.
+ */
 public class TimeUtils {
     
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
+    private static volatile Clock clock = CoarseClock.systemDefaultZone();
+    
+    public static Clock getClock() {
+        return clock;
+    }
+    
+    public static void setClock(Clock clock) {
+        TimeUtils.clock = clock;
+    }
+    
+    public static void resetClock() {
+        clock = CoarseClock.systemDefaultZone();
+    }
+    
+    public static long currentMillis() {
+        return clock.millis();
+    }
+    
+    public static LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+    
+    /**
+     * Epoch milliseconds of {@code dateTime} in the clock's zone, for checks that compare primitive
+     * longs against {@link #currentMillis()}.
+     */
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+    
     public static boolean isDateInFuture(LocalDate date) {
-        return date.isAfter(LocalDate.now());
+        return date.isAfter(LocalDate.now(clock));
     }
     
     public static boolean isDateTimeInFuture(LocalDateTime dateTime) {
-        return dateTime.isAfter(LocalDateTime.now());
+        return dateTime.isAfter(now());
     }
     
     public static boolean isDateInPast(LocalDate date) {
-        return date.isBefore(LocalDate.now());
+        return date.isBefore(LocalDate.now(clock));
     }
     
     public static boolean isDateTimeInPast(LocalDateTime dateTime) {
-        return dateTime.isBefore(LocalDateTime.now());
+        return dateTime.isBefore(now());
     }
     
     public static long daysBetween(LocalDate startDate, LocalDate endDate) {
@@ -67,7 +104,7 @@ public class TimeUtils {
     
     public static boolean isAgeValid(LocalDate birthDate, int minimumAge) {
         if (birthDate == null) return false;
-        LocalDate today = LocalDate.now();
+        LocalDate today = LocalDate.now(clock);
         return ChronoUnit.YEARS.between(birthDate, today) >= minimumAge;
     }
     
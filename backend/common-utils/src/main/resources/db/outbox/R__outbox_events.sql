@@ -0,0 +1,24 @@
+IF OBJECT_ID('outbox_events', 'U') IS NULL
+BEGIN
+    CREATE TABLE outbox_events (
+        id BIGINT IDENTITY(1,1) PRIMARY KEY,
+        aggregate_type NVARCHAR(100) NOT NULL,
+        aggregate_id NVARCHAR(100) NOT NULL,
+        event_type NVARCHAR(100) NOT NULL,
+        payload NVARCHAR(MAX) NOT NULL,
+        created_at DATETIME2 NOT NULL
+    );
+END
+GO
+
+-- Set while a relay has claimed a row, or on the failed head of an aggregate held back for a retry
+IF COL_LENGTH('outbox_events', 'locked_until') IS NULL
+BEGIN
+    ALTER TABLE outbox_events ADD locked_until DATETIME2 NULL;
+END
+GO
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_outbox_events_aggregate' AND object_id = OBJECT_ID('outbox_events'))
+BEGIN
+    CREATE INDEX ix_outbox_events_aggregate ON outbox_events (aggregate_type, aggregate_id) INCLUDE (locked_until);
+END
\ No newline at end of file
@@ -1,11 +1,17 @@
 package com.eventticket.eventservice;
 
+import com.eventticket.common.instrumentation.EnableInstrumentation;
+import com.eventticket.common.outbox.EnableOutbox;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
+@EnableOutbox
+@EnableInstrumentation
 public class EventServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,43 @@
+package com.eventticket.eventservice.application.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class EventSearchRequest {
+    
+    // Free text matched against the title and description; the last word also matches as a prefix
+    @Size(max = 200, message = "Search text must not exceed 200 characters")
+    private String q;
+    
+    private UUID categoryId;
+    private UUID venueId;
+    private UUID organizerId;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+    
+    @DecimalMin(value = "0.0", message = "Minimum price must not be negative")
+    private BigDecimal minPrice;
+    
+    @DecimalMin(value = "0.0", message = "Maximum price must not be negative")
+    private BigDecimal maxPrice;
+    
+    private boolean availableOnly;
+    
+    @Min(value = 0, message = "Page must not be negative")
+    @Max(value = 500, message = "Page must not exceed 500")
+    private int page = 0;
+    
+    @Min(value = 1, message = "Size must be at least 1")
+    @Max(value = 100, message = "Size must not exceed 100")
+    private int size = 20;
+}
\ No newline at end of file
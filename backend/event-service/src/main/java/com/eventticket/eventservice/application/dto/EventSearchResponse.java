@@ -0,0 +1,19 @@
+package com.eventticket.eventservice.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSearchResponse {
+    private List<EventResponse> events;
+    private long totalMatches;
+    private int page;
+    private int size;
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.eventticket.eventservice.application.service;
+
+import com.eventticket.eventservice.application.dto.EventResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface EventCalendarService {
+    
+    /**
+     * The next {@code limit} published events starting after {@code after} (now when null), in
+     * start order, optionally only those in one category.
+     */
+    List<EventResponse> getUpcomingEvents(LocalDateTime after, UUID categoryId, int limit);
+}
\ No newline at end of file
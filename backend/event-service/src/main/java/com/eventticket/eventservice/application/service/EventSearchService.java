@@ -0,0 +1,12 @@
+package com.eventticket.eventservice.application.service;
+
+import com.eventticket.eventservice.application.dto.EventSearchRequest;
+import com.eventticket.eventservice.application.dto.EventSearchResponse;
+
+public interface EventSearchService {
+    
+    /**
+     * Published events matching every given filter, ordered by event date.
+     */
+    EventSearchResponse search(EventSearchRequest request);
+}
\ No newline at end of file
@@ -1,11 +1,13 @@
 package com.eventticket.eventservice.application.service;
 
+import com.eventticket.common.response.CursorPage;
 import com.eventticket.eventservice.application.dto.CreateEventRequest;
 import com.eventticket.eventservice.application.dto.EventResponse;
 import com.eventticket.eventservice.application.dto.UpdateEventRequest;
 import com.eventticket.eventservice.domain.model.Event;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface EventService {
@@ -14,16 +16,30 @@ public interface EventService {
     
     EventResponse getEventById(UUID eventId);
     
+    /**
+     * The events with the given IDs, in the order given, loaded with a single query. IDs that do
+     * not exist are skipped.
+     */
+    List<EventResponse> getEventsByIds(List<UUID> eventIds);
+    
     List<EventResponse> getAllEvents(int page, int size);
     
     List<EventResponse> getEventsByOrganizer(UUID organizerId, int page, int size);
     
     List<EventResponse> getEventsByCategory(UUID categoryId, int page, int size);
     
+    CursorPage<EventResponse> getEvents(String cursor, int size);
+    
+    CursorPage<EventResponse> getEventsByOrganizer(UUID organizerId, String cursor, int size);
+    
+    CursorPage<EventResponse> getEventsByCategory(UUID categoryId, String cursor, int size);
+    
     List<EventResponse> getFeaturedEvents();
     
     List<EventResponse> getUpcomingEvents();
     
+    Map<UUID, Integer> getTicketAvailability(UUID eventId);
+    
     EventResponse updateEvent(UUID eventId, UpdateEventRequest request, UUID organizerId);
     
     void deleteEvent(UUID eventId, UUID organizerId);
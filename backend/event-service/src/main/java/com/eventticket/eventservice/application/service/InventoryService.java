@@ -0,0 +1,14 @@
+package com.eventticket.eventservice.application.service;
+
+import java.util.UUID;
+
+public interface InventoryService {
+    
+    boolean tryReserve(UUID ticketTypeId, int quantity);
+    
+    void release(UUID ticketTypeId, int quantity);
+    
+    int getAvailableQuantity(UUID ticketTypeId);
+    
+    void flush();
+}
\ No newline at end of file
@@ -1,9 +1,11 @@
 package com.eventticket.eventservice.domain.model;
 
+import com.eventticket.common.utils.TimeUtils;
 import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -38,6 +40,12 @@ public class Event {
     @Builder.Default
     private List<TicketType> ticketTypes = new ArrayList<>();
     
+    // Cached values derived from the fields above. Final and initialized, so the builder, the
+    // all-args constructor and mappers never see it
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final Derived derived = new Derived();
+    
     // Business logic methods
     public boolean isPublished() {
         return EventStatus.PUBLISHED.equals(status);
@@ -56,49 +64,149 @@ public class Event {
     }
     
     public boolean isEnded() {
-        return eventEndDate != null && eventEndDate.isBefore(LocalDateTime.now());
+        return isEnded(TimeUtils.currentMillis());
     }
     
     public boolean isUpcoming() {
-        return eventDate.isAfter(LocalDateTime.now());
+        return isUpcoming(TimeUtils.currentMillis());
     }
     
     public boolean isOngoing() {
-        LocalDateTime now = LocalDateTime.now();
-        return eventDate.isBefore(now) && 
-               (eventEndDate == null || eventEndDate.isAfter(now));
+        return isOngoing(TimeUtils.currentMillis());
+    }
+    
+    // The overloads taking "now" let a listing read the clock once for all of its events
+    public boolean isEnded(long nowMillis) {
+        resolveSchedule();
+        return derived.eventEndDateMillis < nowMillis;
+    }
+    
+    public boolean isUpcoming(long nowMillis) {
+        resolveSchedule();
+        return eventDate != null && derived.eventDateMillis > nowMillis;
+    }
+    
+    public boolean isOngoing(long nowMillis) {
+        resolveSchedule();
+        return eventDate != null && derived.eventDateMillis < nowMillis && derived.eventEndDateMillis > nowMillis;
+    }
+    
+    // Long.MAX_VALUE while the event has no date yet
+    public long getEventDateMillis() {
+        resolveSchedule();
+        return derived.eventDateMillis;
+    }
+    
+    // Long.MAX_VALUE for an open-ended event
+    public long getEventEndDateMillis() {
+        resolveSchedule();
+        return derived.eventEndDateMillis;
+    }
+    
+    public void setEventDate(LocalDateTime eventDate) {
+        this.eventDate = eventDate;
+        derived.scheduleResolved = false;
+    }
+    
+    public void setEventEndDate(LocalDateTime eventEndDate) {
+        this.eventEndDate = eventEndDate;
+        derived.scheduleResolved = false;
+    }
+    
+    private void resolveSchedule() {
+        if (!derived.scheduleResolved) {
+            derived.eventDateMillis = eventDate != null ? TimeUtils.toEpochMillis(eventDate) : Long.MAX_VALUE;
+            // An open-ended event never ends
+            derived.eventEndDateMillis = eventEndDate != null ? TimeUtils.toEpochMillis(eventEndDate) : Long.MAX_VALUE;
+            derived.scheduleResolved = true;
+        }
     }
     
     public int getTotalTicketsSold() {
-        return ticketTypes.stream()
-                .mapToInt(TicketType::getQuantitySold)
-                .sum();
+        return (int) getAggregates().getTotalSold();
     }
     
     public int getTotalTicketsAvailable() {
-        return ticketTypes.stream()
-                .mapToInt(TicketType::getQuantityAvailable)
-                .sum();
+        return (int) getAggregates().getTotalQuantity();
     }
     
     public boolean hasAvailableTickets() {
-        return getTotalTicketsAvailable() > 0;
+        return getAggregates().getTotalQuantity() > 0;
     }
     
     public BigDecimal getLowestTicketPrice() {
-        return ticketTypes.stream()
-                .filter(TicketType::getIsActive)
-                .map(TicketType::getPrice)
-                .min(BigDecimal::compareTo)
-                .orElse(BigDecimal.ZERO);
+        return getAggregates().getLowestPrice();
     }
     
     public BigDecimal getHighestTicketPrice() {
+        return getAggregates().getHighestPrice();
+    }
+    
+    public long getLowestTicketPriceMinor() {
+        return getAggregates().getLowestPriceMinor();
+    }
+    
+    public long getHighestTicketPriceMinor() {
+        return getAggregates().getHighestPriceMinor();
+    }
+    
+    public void setTicketTypes(List<TicketType> ticketTypes) {
+        this.ticketTypes = ticketTypes;
+        derived.aggregatesDirty = true;
+    }
+    
+    /**
+     * Cached snapshot, marked dirty by the ticket type setters and by changes to the ticket type
+     * list, so a read is O(1) until something changes. The first call after the list was set
+     * through the builder, constructor or setter wraps it to observe later additions and removals;
+     * changes made through a reference to the unwrapped list taken before that are not seen.
+     */
+    public EventAggregates getAggregates() {
+        if (ticketTypes != null && !(ticketTypes instanceof ObservedTicketTypes observed && observed.derived == derived)) {
+            ticketTypes = new ObservedTicketTypes(ticketTypes, derived);
+            derived.aggregatesDirty = true;
+        }
+        if (derived.aggregatesDirty) {
+            derived.aggregates = EventAggregates.of(ticketTypes);
+            derived.aggregatesDirty = false;
+        }
+        return derived.aggregates;
+    }
+    
+    // Sales and refunds through the event adjust the aggregates in place instead of rebuilding them
+    public void sellTickets(UUID ticketTypeId, int quantity) {
+        EventAggregates aggregates = getAggregates();
+        getTicketType(ticketTypeId).sellTickets(quantity);
+        aggregates.onSold(quantity);
+        derived.aggregatesDirty = false;
+    }
+    
+    public void refundTickets(UUID ticketTypeId, int quantity) {
+        EventAggregates aggregates = getAggregates();
+        getTicketType(ticketTypeId).refundTickets(quantity);
+        aggregates.onRefunded(quantity);
+        derived.aggregatesDirty = false;
+    }
+    
+    public void changeTicketPrice(UUID ticketTypeId, BigDecimal price) {
+        getTicketType(ticketTypeId).setPrice(price);
+    }
+    
+    public void addTicketType(TicketType ticketType) {
+        this.ticketTypes.add(ticketType);
+        derived.aggregatesDirty = true;
+    }
+    
+    public void removeTicketType(UUID ticketTypeId) {
+        this.ticketTypes.removeIf(ticketType -> ticketType.getTicketTypeId().equals(ticketTypeId));
+        derived.aggregatesDirty = true;
+    }
+    
+    private TicketType getTicketType(UUID ticketTypeId) {
         return ticketTypes.stream()
-                .filter(TicketType::getIsActive)
-                .map(TicketType::getPrice)
-                .max(BigDecimal::compareTo)
-                .orElse(BigDecimal.ZERO);
+                .filter(ticketType -> ticketType.getTicketTypeId().equals(ticketTypeId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Ticket type " + ticketTypeId + " does not belong to this event"));
     }
     
     public void publish() {
@@ -117,6 +225,10 @@ public class Event {
         this.status = EventStatus.CANCELLED;
     }
     
+    public void end() {
+        this.status = EventStatus.ENDED;
+    }
+    
     public void markAsFeatured() {
         this.isFeatured = true;
     }
@@ -128,4 +240,60 @@ public class Event {
     public enum EventStatus {
         DRAFT, PENDING_APPROVAL, PUBLISHED, CANCELLED, ENDED
     }
+    
+    private static final class Derived {
+        private EventAggregates aggregates;
+        private boolean aggregatesDirty = true;
+        private final Runnable markAggregatesDirty = () -> aggregatesDirty = true;
+        
+        // Epoch-millis copies of eventDate/eventEndDate, reset by their setters
+        private boolean scheduleResolved;
+        private long eventDateMillis;
+        private long eventEndDateMillis;
+    }
+    
+    // Ticket type list that marks the aggregates dirty on every change and hooks the event into the
+    // ticket types it holds; AbstractList routes all other mutators through add, set and remove
+    private static final class ObservedTicketTypes extends AbstractList<TicketType> {
+        private final List<TicketType> backing;
+        private final Derived derived;
+        
+        ObservedTicketTypes(List<TicketType> backing, Derived derived) {
+            this.backing = backing;
+            this.derived = derived;
+            backing.forEach(ticketType -> ticketType.onModified(derived.markAggregatesDirty));
+        }
+        
+        @Override
+        public TicketType get(int index) {
+            return backing.get(index);
+        }
+        
+        @Override
+        public int size() {
+            return backing.size();
+        }
+        
+        @Override
+        public void add(int index, TicketType ticketType) {
+            backing.add(index, ticketType);
+            ticketType.onModified(derived.markAggregatesDirty);
+            derived.aggregatesDirty = true;
+        }
+        
+        @Override
+        public TicketType set(int index, TicketType ticketType) {
+            TicketType previous = backing.set(index, ticketType);
+            ticketType.onModified(derived.markAggregatesDirty);
+            derived.aggregatesDirty = true;
+            return previous;
+        }
+        
+        @Override
+        public TicketType remove(int index) {
+            TicketType removed = backing.remove(index);
+            derived.aggregatesDirty = true;
+            return removed;
+        }
+    }
 } 
\ No newline at end of file
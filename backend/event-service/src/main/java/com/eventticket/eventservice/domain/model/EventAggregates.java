@@ -0,0 +1,106 @@
+package com.eventticket.eventservice.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * Ticket totals and price range of an event, kept in primitive fields so listings can read them
+ * in O(1). Sales and refunds adjust the totals in place; price, activation or ticket type changes
+ * rebuild the snapshot from the ticket types.
+ */
+public final class EventAggregates {
+    
+    private static final int DEFAULT_FRACTION_DIGITS = 2;
+    
+    private long totalSold;
+    private long totalQuantity;
+    private long lowestPriceMinor;
+    private long highestPriceMinor;
+    private BigDecimal lowestPrice = BigDecimal.ZERO;
+    private BigDecimal highestPrice = BigDecimal.ZERO;
+    
+    static EventAggregates of(List<TicketType> ticketTypes) {
+        EventAggregates aggregates = new EventAggregates();
+        if (ticketTypes == null) {
+            return aggregates;
+        }
+        boolean hasActivePrice = false;
+        for (TicketType ticketType : ticketTypes) {
+            aggregates.totalSold += ticketType.getQuantitySold();
+            aggregates.totalQuantity += ticketType.getQuantityAvailable();
+            
+            if (!ticketType.getIsActive() || ticketType.getPrice() == null) {
+                continue;
+            }
+            // Compared as amounts, since minor units differ in scale between currencies
+            BigDecimal price = ticketType.getPrice();
+            if (!hasActivePrice || price.compareTo(aggregates.lowestPrice) < 0) {
+                aggregates.lowestPriceMinor = ticketType.getPriceMinor();
+                aggregates.lowestPrice = price;
+            }
+            if (!hasActivePrice || price.compareTo(aggregates.highestPrice) > 0) {
+                aggregates.highestPriceMinor = ticketType.getPriceMinor();
+                aggregates.highestPrice = price;
+            }
+            hasActivePrice = true;
+        }
+        return aggregates;
+    }
+    
+    void onSold(int quantity) {
+        totalSold += quantity;
+    }
+    
+    void onRefunded(int quantity) {
+        totalSold -= quantity;
+    }
+    
+    public long getTotalSold() {
+        return totalSold;
+    }
+    
+    public long getTotalQuantity() {
+        return totalQuantity;
+    }
+    
+    public long getLowestPriceMinor() {
+        return lowestPriceMinor;
+    }
+    
+    public long getHighestPriceMinor() {
+        return highestPriceMinor;
+    }
+    
+    public BigDecimal getLowestPrice() {
+        return lowestPrice;
+    }
+    
+    public BigDecimal getHighestPrice() {
+        return highestPrice;
+    }
+    
+    /**
+     * {@code price} in the minor unit of {@code currency}, using the currency's ISO 4217 fraction
+     * digits; missing or unknown currencies and pseudo-currencies such as XAU fall back to two.
+     */
+    static long toMinorUnits(BigDecimal price, String currency) {
+        if (price == null) {
+            return 0;
+        }
+        return price.setScale(fractionDigits(currency), RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+    
+    private static int fractionDigits(String currency) {
+        if (currency == null) {
+            return DEFAULT_FRACTION_DIGITS;
+        }
+        try {
+            int digits = Currency.getInstance(currency).getDefaultFractionDigits();
+            return digits >= 0 ? digits : DEFAULT_FRACTION_DIGITS;
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_FRACTION_DIGITS;
+        }
+    }
+}
\ No newline at end of file
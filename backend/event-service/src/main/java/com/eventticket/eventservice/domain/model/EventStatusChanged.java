@@ -0,0 +1,10 @@
+package com.eventticket.eventservice.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Published to other services whenever an event is approved, published, cancelled or ended.
+ */
+public record EventStatusChanged(UUID eventId, UUID organizerId, Event.EventStatus status, Instant occurredAt) {
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.eventticket.eventservice.domain.model;
 
+import com.eventticket.common.utils.TimeUtils;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -30,17 +31,82 @@ public class TicketType {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
+    // Cached values derived from the fields above, kept out of the builder and mappers
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final Derived derived = new Derived();
+    
     public boolean isAvailableForSale() {
+        return isAvailableForSale(TimeUtils.currentMillis());
+    }
+    
+    public boolean isAvailableForSale(long nowMillis) {
         if (!isActive) return false;
         
-        LocalDateTime now = LocalDateTime.now();
-        
-        if (saleStartDate != null && now.isBefore(saleStartDate)) return false;
-        if (saleEndDate != null && now.isAfter(saleEndDate)) return false;
+        if (!derived.saleWindowResolved) {
+            derived.saleStartMillis = saleStartDate != null ? TimeUtils.toEpochMillis(saleStartDate) : Long.MIN_VALUE;
+            derived.saleEndMillis = saleEndDate != null ? TimeUtils.toEpochMillis(saleEndDate) : Long.MAX_VALUE;
+            derived.saleWindowResolved = true;
+        }
+        if (nowMillis < derived.saleStartMillis || nowMillis > derived.saleEndMillis) return false;
         
         return getAvailableQuantity() > 0;
     }
     
+    public void setSaleStartDate(LocalDateTime saleStartDate) {
+        this.saleStartDate = saleStartDate;
+        derived.saleWindowResolved = false;
+    }
+    
+    public void setSaleEndDate(LocalDateTime saleEndDate) {
+        this.saleEndDate = saleEndDate;
+        derived.saleWindowResolved = false;
+    }
+    
+    // Setters of the fields Event aggregates over count as modifications, see Event.getAggregates
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+        modified();
+    }
+    
+    public void setCurrency(String currency) {
+        this.currency = currency;
+        modified();
+    }
+    
+    public void setQuantityAvailable(Integer quantityAvailable) {
+        this.quantityAvailable = quantityAvailable;
+        modified();
+    }
+    
+    public void setQuantitySold(Integer quantitySold) {
+        this.quantitySold = quantitySold;
+        modified();
+    }
+    
+    public void setIsActive(Boolean isActive) {
+        this.isActive = isActive;
+        modified();
+    }
+    
+    /**
+     * Price in the minor unit of this ticket type's currency (e.g. cents, or whole yen).
+     */
+    public long getPriceMinor() {
+        return EventAggregates.toMinorUnits(price, currency);
+    }
+    
+    // Set by the event whose ticket type list holds this ticket type; the latest event wins
+    void onModified(Runnable listener) {
+        derived.onModified = listener;
+    }
+    
+    private void modified() {
+        if (derived.onModified != null) {
+            derived.onModified.run();
+        }
+    }
+    
     public int getAvailableQuantity() {
         return quantityAvailable - quantitySold;
     }
@@ -56,6 +122,7 @@ public class TicketType {
             throw new IllegalStateException("Cannot sell " + quantity + " tickets");
         }
         this.quantitySold += quantity;
+        modified();
     }
     
     public void refundTickets(int quantity) {
@@ -63,5 +130,15 @@ public class TicketType {
             throw new IllegalStateException("Cannot refund more tickets than sold");
         }
         this.quantitySold -= quantity;
+        modified();
+    }
+    
+    private static final class Derived {
+        private Runnable onModified;
+        
+        // Epoch-millis sale window, reset by the sale date setters
+        private boolean saleWindowResolved;
+        private long saleStartMillis;
+        private long saleEndMillis;
     }
 } 
\ No newline at end of file
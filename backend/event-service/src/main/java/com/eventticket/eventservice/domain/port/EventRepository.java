@@ -2,6 +2,8 @@ package com.eventticket.eventservice.domain.port;
 
 import com.eventticket.eventservice.domain.model.Event;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,6 +14,12 @@ public interface EventRepository {
     
     Optional<Event> findById(UUID eventId);
     
+    /**
+     * The events with the given IDs, with their ticket types, in one {@code IN} query. Order is
+     * not defined; IDs that do not exist are skipped.
+     */
+    List<Event> findAllById(Collection<UUID> eventIds);
+    
     List<Event> findAll();
     
     List<Event> findByOrganizerId(UUID organizerId);
@@ -22,10 +30,25 @@ public interface EventRepository {
     
     List<Event> findFeaturedEvents();
     
+    /**
+     * @deprecated unbounded and evaluated against "now" on every call; upcoming events are served
+     * from the in-memory event calendar instead
+     */
+    @Deprecated
     List<Event> findUpcomingEvents();
     
     List<Event> findByVenueId(UUID venueId);
     
+    /**
+     * Keyset page ordered by (eventDate, eventId): the first {@code limit} events strictly after the
+     * given position, or from the start when {@code afterEventDate} is null. Never issues a COUNT.
+     */
+    List<Event> findPageAfter(LocalDateTime afterEventDate, UUID afterEventId, int limit);
+    
+    List<Event> findPageByCategoryIdAfter(UUID categoryId, LocalDateTime afterEventDate, UUID afterEventId, int limit);
+    
+    List<Event> findPageByOrganizerIdAfter(UUID organizerId, LocalDateTime afterEventDate, UUID afterEventId, int limit);
+    
     void deleteById(UUID eventId);
     
     boolean existsById(UUID eventId);
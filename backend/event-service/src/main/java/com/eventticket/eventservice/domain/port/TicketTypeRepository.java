@@ -3,6 +3,7 @@ package com.eventticket.eventservice.domain.port;
 import com.eventticket.eventservice.domain.model.TicketType;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,4 +20,9 @@ public interface TicketTypeRepository {
     void deleteById(UUID ticketTypeId);
     
     boolean existsById(UUID ticketTypeId);
+    
+    /**
+     * Adds each delta to {@code quantitySold} in place (one batched UPDATE), without reading the rows first.
+     */
+    void incrementQuantitySold(Map<UUID, Long> soldDeltas);
 } 
\ No newline at end of file
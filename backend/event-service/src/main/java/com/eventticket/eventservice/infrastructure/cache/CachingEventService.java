@@ -0,0 +1,389 @@
+package com.eventticket.eventservice.infrastructure.cache;
+
+import com.eventticket.common.exception.ApiException;
+import com.eventticket.common.response.CursorPage;
+import com.eventticket.common.utils.CursorCodec;
+import com.eventticket.common.utils.TimeUtils;
+import com.eventticket.eventservice.application.dto.CreateEventRequest;
+import com.eventticket.eventservice.application.dto.EventResponse;
+import com.eventticket.eventservice.application.dto.UpdateEventRequest;
+import com.eventticket.eventservice.application.service.EventService;
+import com.eventticket.eventservice.domain.model.Event;
+import com.eventticket.eventservice.domain.port.EventRepository;
+import com.eventticket.eventservice.infrastructure.calendar.EventCalendar;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache in front of the event service.
+ *
+ * <p>Reads go to an in-process Caffeine (W-TinyLFU) cache, then to the {@link SharedEventCache},
+ * and only then to the delegate. Concurrent misses for the same key wait on a single load, which
+ * runs on the first caller's thread outside any cache lock so a virtual thread is never pinned
+ * while it queries the database. Every mutating call evicts exactly the entries it can change
+ * once the delegate has returned. Ticket availability changes with every sale, so it is cached
+ * separately with a short TTL and never shared.</p>
+ *
+ * <p>Upcoming events come from the {@link EventCalendar} once it has loaded, capped at
+ * {@code app.calendar.upcoming-limit}, so only the individual events are cached; until then the
+ * list is loaded and cached as before.</p>
+ */
+@Service
+@Primary
+@Slf4j
+public class CachingEventService implements EventService {
+    
+    private static final String FEATURED = "events:featured";
+    private static final String UPCOMING = "events:upcoming";
+    
+    private final EventService delegate;
+    private final SharedEventCache sharedCache;
+    private final EventCalendar calendar;
+    private final EventRepository eventRepository;
+    private final int upcomingLimit;
+    private final Duration loadWaitTimeout;
+    private final AsyncCache<UUID, EventResponse> events;
+    private final AsyncCache<String, List<EventResponse>> eventLists;
+    private final AsyncCache<UUID, Map<UUID, Integer>> availability;
+    
+    public CachingEventService(
+            @Qualifier("outboxEventService") EventService delegate,
+            SharedEventCache sharedCache,
+            EventCalendar calendar,
+            EventRepository eventRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.events.max-size:10000}") long maxEvents,
+            @Value("${app.cache.events.ttl:PT10M}") Duration eventTtl,
+            @Value("${app.cache.lists.ttl:PT1M}") Duration listTtl,
+            @Value("${app.cache.availability.ttl:PT2S}") Duration availabilityTtl,
+            @Value("${app.calendar.upcoming-limit:50}") int upcomingLimit,
+            @Value("${app.cache.load-wait-timeout:PT10S}") Duration loadWaitTimeout) {
+        this.delegate = delegate;
+        this.sharedCache = sharedCache;
+        this.calendar = calendar;
+        this.eventRepository = eventRepository;
+        this.upcomingLimit = upcomingLimit;
+        this.loadWaitTimeout = loadWaitTimeout;
+        this.events = Caffeine.newBuilder()
+                .maximumSize(maxEvents)
+                .expireAfterWrite(eventTtl)
+                .recordStats()
+                .buildAsync();
+        this.eventLists = Caffeine.newBuilder()
+                .maximumSize(16)
+                .expireAfterWrite(listTtl)
+                .recordStats()
+                .buildAsync();
+        this.availability = Caffeine.newBuilder()
+                .maximumSize(maxEvents)
+                .expireAfterWrite(availabilityTtl)
+                .recordStats()
+                .buildAsync();
+        
+        CaffeineCacheMetrics.monitor(meterRegistry, events.synchronous(), "events");
+        CaffeineCacheMetrics.monitor(meterRegistry, eventLists.synchronous(), "event-lists");
+        CaffeineCacheMetrics.monitor(meterRegistry, availability.synchronous(), "event-availability");
+    }
+    
+    @Override
+    public EventResponse createEvent(CreateEventRequest request, UUID organizerId) {
+        EventResponse response = delegate.createEvent(request, organizerId);
+        evictLists();
+        return response;
+    }
+    
+    @Override
+    public EventResponse getEventById(UUID eventId) {
+        return getOrLoad(events, eventId, () -> readThrough(eventKey(eventId), EventResponse.class, () -> delegate.getEventById(eventId)));
+    }
+    
+    @Override
+    public List<EventResponse> getEventsByIds(List<UUID> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        // Misses of every tier are loaded together, so a cold page costs one query rather than one per event
+        Set<UUID> distinct = new LinkedHashSet<>(eventIds);
+        CompletableFuture<Map<UUID, EventResponse>> all = events.getAll(distinct, (missing, executor) -> {
+            try {
+                return CompletableFuture.completedFuture(loadEvents(missing));
+            } catch (Throwable e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+        Map<UUID, EventResponse> found = await(all, distinct, () -> loadEvents(distinct));
+        
+        List<EventResponse> resolved = new ArrayList<>(eventIds.size());
+        for (UUID eventId : eventIds) {
+            EventResponse event = found.get(eventId);
+            if (event != null) {
+                resolved.add(event);
+            }
+        }
+        return resolved;
+    }
+    
+    @Override
+    public List<EventResponse> getAllEvents(int page, int size) {
+        return delegate.getAllEvents(page, size);
+    }
+    
+    @Override
+    public List<EventResponse> getEventsByOrganizer(UUID organizerId, int page, int size) {
+        return delegate.getEventsByOrganizer(organizerId, page, size);
+    }
+    
+    @Override
+    public List<EventResponse> getEventsByCategory(UUID categoryId, int page, int size) {
+        return delegate.getEventsByCategory(categoryId, page, size);
+    }
+    
+    @Override
+    public CursorPage<EventResponse> getEvents(String cursor, int size) {
+        return eventPage(cursor, size, eventRepository::findPageAfter);
+    }
+    
+    @Override
+    public CursorPage<EventResponse> getEventsByOrganizer(UUID organizerId, String cursor, int size) {
+        return eventPage(cursor, size, (afterEventDate, afterEventId, limit) ->
+                eventRepository.findPageByOrganizerIdAfter(organizerId, afterEventDate, afterEventId, limit));
+    }
+    
+    @Override
+    public CursorPage<EventResponse> getEventsByCategory(UUID categoryId, String cursor, int size) {
+        return eventPage(cursor, size, (afterEventDate, afterEventId, limit) ->
+                eventRepository.findPageByCategoryIdAfter(categoryId, afterEventDate, afterEventId, limit));
+    }
+    
+    @Override
+    public List<EventResponse> getFeaturedEvents() {
+        return getOrLoad(eventLists, FEATURED, () -> readThroughList(FEATURED, delegate::getFeaturedEvents));
+    }
+    
+    @Override
+    public List<EventResponse> getUpcomingEvents() {
+        if (!calendar.isReady()) {
+            return getOrLoad(eventLists, UPCOMING, () -> readThroughList(UPCOMING, delegate::getUpcomingEvents));
+        }
+        
+        List<UUID> eventIds = calendar.upcoming(TimeUtils.currentMillis(), null, upcomingLimit);
+        List<EventResponse> upcoming = new ArrayList<>(eventIds.size());
+        for (UUID eventId : eventIds) {
+            try {
+                upcoming.add(getEventById(eventId));
+            } catch (ApiException e) {
+                if (e.getStatus() != HttpStatus.NOT_FOUND) {
+                    throw e;
+                }
+            }
+        }
+        return upcoming;
+    }
+    
+    @Override
+    public Map<UUID, Integer> getTicketAvailability(UUID eventId) {
+        return getOrLoad(availability, eventId, () -> delegate.getTicketAvailability(eventId));
+    }
+    
+    @Override
+    public EventResponse updateEvent(UUID eventId, UpdateEventRequest request, UUID organizerId) {
+        EventResponse response = delegate.updateEvent(eventId, request, organizerId);
+        evictEvent(eventId);
+        return response;
+    }
+    
+    @Override
+    public void deleteEvent(UUID eventId, UUID organizerId) {
+        delegate.deleteEvent(eventId, organizerId);
+        evictEvent(eventId);
+        availability.synchronous().invalidate(eventId);
+    }
+    
+    @Override
+    public void approveEvent(UUID eventId) {
+        delegate.approveEvent(eventId);
+        evictEvent(eventId);
+    }
+    
+    @Override
+    public void rejectEvent(UUID eventId) {
+        delegate.rejectEvent(eventId);
+        evictEvent(eventId);
+    }
+    
+    @Override
+    public void publishEvent(UUID eventId, UUID organizerId) {
+        delegate.publishEvent(eventId, organizerId);
+        evictEvent(eventId);
+    }
+    
+    @Override
+    public void cancelEvent(UUID eventId, UUID organizerId) {
+        delegate.cancelEvent(eventId, organizerId);
+        evictEvent(eventId);
+        availability.synchronous().invalidate(eventId);
+    }
+    
+    @Override
+    public void markEventAsFeatured(UUID eventId) {
+        delegate.markEventAsFeatured(eventId);
+        evictEvent(eventId);
+    }
+    
+    @Override
+    public void removeEventFromFeatured(UUID eventId) {
+        delegate.removeEventFromFeatured(eventId);
+        evictEvent(eventId);
+    }
+    
+    /**
+     * Evicts everything cached for {@code eventId}, for writes that reach the repository without
+     * going through this service. Call it once the write has committed.
+     */
+    public void evictEvent(UUID eventId) {
+        // Shared tier first, so a concurrent local miss cannot re-read the stale shared copy
+        sharedCache.evict(eventKey(eventId));
+        events.synchronous().invalidate(eventId);
+        evictLists();
+    }
+    
+    private void evictLists() {
+        sharedCache.evict(FEATURED);
+        sharedCache.evict(UPCOMING);
+        eventLists.synchronous().invalidateAll();
+    }
+    
+    /**
+     * Seeks one keyset page by (eventDate, eventId) and resolves the events through the cache, so
+     * paging only reads positions the cache cannot answer, all of them in one query.
+     */
+    private CursorPage<EventResponse> eventPage(String cursor, int size, PageQuery query) {
+        CursorCodec.checkPageSize(size);
+        
+        // Fetch one extra row to learn whether another page follows
+        List<Event> page;
+        if (cursor == null || cursor.isBlank()) {
+            page = query.find(null, null, size + 1);
+        } else {
+            CursorCodec.Position position = CursorCodec.decode(cursor);
+            page = query.find(position.timestamp(), position.id(), size + 1);
+        }
+        
+        String nextCursor = null;
+        if (page.size() > size) {
+            page = page.subList(0, size);
+            Event last = page.get(size - 1);
+            nextCursor = CursorCodec.encode(last.getEventDate(), last.getEventId());
+        }
+        
+        List<UUID> eventIds = new ArrayList<>(page.size());
+        for (Event event : page) {
+            eventIds.add(event.getEventId());
+        }
+        // Events deleted since the page was read are skipped
+        return CursorPage.of(getEventsByIds(eventIds), nextCursor);
+    }
+    
+    @FunctionalInterface
+    private interface PageQuery {
+        List<Event> find(LocalDateTime afterEventDate, UUID afterEventId, int limit);
+    }
+    
+    private <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Supplier<V> loader) {
+        // The mapping function only installs an empty future, so Caffeine records the hit or miss
+        // (and the load's outcome) while the load itself runs on this thread outside the bin lock
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> existing = cache.get(key, (k, executor) -> loading);
+        if (existing != loading) {
+            return await(existing, key, loader);
+        }
+        
+        try {
+            V value = loader.get();
+            loading.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // Failed futures are dropped by the cache, so the next caller retries the load; an
+            // Error must fail the future too, or waiters would block on it until it is evicted
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+    
+    private <V> V await(CompletableFuture<V> load, Object key, Supplier<V> fallback) {
+        try {
+            return load.get(loadWaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            // A stuck load must not stall every reader of the key; this caller reads past the cache
+            log.warn("Cache load for {} did not finish within {}, loading directly", key, loadWaitTimeout);
+            return fallback.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while waiting for a cache load",
+                    HttpStatus.SERVICE_UNAVAILABLE, "CACHE_LOAD_INTERRUPTED");
+        }
+    }
+    
+    // The shared tier first, then one delegate call for whatever it could not answer
+    private Map<UUID, EventResponse> loadEvents(Set<? extends UUID> eventIds) {
+        Map<UUID, EventResponse> loaded = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        long loadStartedMillis = System.currentTimeMillis();
+        for (UUID eventId : eventIds) {
+            sharedCache.get(eventKey(eventId), EventResponse.class)
+                    .ifPresentOrElse(event -> loaded.put(eventId, event), () -> misses.add(eventId));
+        }
+        if (!misses.isEmpty()) {
+            for (EventResponse event : delegate.getEventsByIds(misses)) {
+                loaded.put(event.getEventId(), event);
+                sharedCache.put(eventKey(event.getEventId()), event, loadStartedMillis);
+            }
+        }
+        return loaded;
+    }
+    
+    private <T> T readThrough(String key, Class<T> type, Supplier<T> loader) {
+        return sharedCache.get(key, type).orElseGet(() -> {
+            // Taken before the read, so an eviction racing with this load keeps its value out
+            long loadStartedMillis = System.currentTimeMillis();
+            T value = loader.get();
+            sharedCache.put(key, value, loadStartedMillis);
+            return value;
+        });
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<EventResponse> readThroughList(String key, Supplier<List<EventResponse>> loader) {
+        return (List<EventResponse>) readThrough(key, List.class, () -> List.copyOf(loader.get()));
+    }
+    
+    private static String eventKey(UUID eventId) {
+        return "event:" + eventId;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.eventticket.eventservice.infrastructure.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the shared cache tier, used for development and tests and whenever no
+ * distributed cache is configured. Entries, and the eviction markers that fence off stale loads,
+ * expire after {@code app.cache.shared.ttl}.
+ */
+@Component
+public class InMemorySharedEventCache implements SharedEventCache {
+    
+    private static final int PURGE_INTERVAL = 1024;
+    
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+    private final long ttlMillis;
+    
+    public InMemorySharedEventCache(@Value("${app.cache.shared.ttl:PT5M}") Duration ttl) {
+        this.ttlMillis = ttl.toMillis();
+    }
+    
+    @Override
+    public <T> Optional<T> get(String key, Class<T> type) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAtMillis < System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return type.isInstance(entry.value) ? Optional.of(type.cast(entry.value)) : Optional.empty();
+    }
+    
+    @Override
+    public void put(String key, Object value, long loadStartedMillis) {
+        long now = System.currentTimeMillis();
+        entries.compute(key, (k, current) -> current != null && current.isTombstone()
+                && current.expiresAtMillis >= now && current.evictedAtMillis >= loadStartedMillis
+                ? current
+                : new Entry(value, now + ttlMillis, Long.MIN_VALUE));
+    }
+    
+    @Override
+    public void evict(String key) {
+        long now = System.currentTimeMillis();
+        entries.put(key, new Entry(null, now + ttlMillis, now));
+        // Markers for keys that are never read again would otherwise pile up
+        if (evictions.incrementAndGet() % PURGE_INTERVAL == 0) {
+            entries.values().removeIf(entry -> entry.expiresAtMillis < now);
+        }
+    }
+    
+    // A null value marks an eviction, kept for one TTL to fence off slower loads
+    private record Entry(Object value, long expiresAtMillis, long evictedAtMillis) {
+        
+        boolean isTombstone() {
+            return value == null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.eventticket.eventservice.infrastructure.cache;
+
+import java.util.Optional;
+
+/**
+ * Second cache tier shared between event-service instances (e.g. Redis). Implementations must
+ * treat every failure as a miss: the shared tier is an optimisation, never a source of errors.
+ */
+public interface SharedEventCache {
+    
+    <T> Optional<T> get(String key, Class<T> type);
+    
+    /**
+     * Stores a value read from the database at or after {@code loadStartedMillis}. The value is
+     * dropped if {@code key} was evicted since then: it may predate the change behind the eviction.
+     */
+    void put(String key, Object value, long loadStartedMillis);
+    
+    /**
+     * Removes {@code key} and remembers when, for as long as entries live, so that a load that
+     * started before the eviction cannot put its older value back.
+     */
+    void evict(String key);
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.eventticket.eventservice.infrastructure.calendar;
+
+import com.eventticket.common.exception.ApiException;
+import com.eventticket.common.utils.TimeUtils;
+import com.eventticket.eventservice.application.dto.EventResponse;
+import com.eventticket.eventservice.application.service.EventCalendarService;
+import com.eventticket.eventservice.application.service.EventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Answers upcoming-event queries from the {@link EventCalendar} and loads the events through the
+ * (cached) event service.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarEventService implements EventCalendarService {
+    
+    private static final int MAX_LIMIT = 100;
+    
+    private final EventCalendar calendar;
+    private final EventService eventService;
+    
+    @Override
+    public List<EventResponse> getUpcomingEvents(LocalDateTime after, UUID categoryId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw ApiException.badRequest("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (!calendar.isReady()) {
+            throw new ApiException("Event calendar is starting up, please retry shortly",
+                    HttpStatus.SERVICE_UNAVAILABLE, "CALENDAR_LOADING");
+        }
+        
+        long afterMillis = after != null ? TimeUtils.toEpochMillis(after) : TimeUtils.currentMillis();
+        List<UUID> eventIds = calendar.upcoming(afterMillis, categoryId, limit);
+        // Events deleted after the calendar was read are skipped
+        return eventService.getEventsByIds(eventIds);
+    }
+}
\ No newline at end of file
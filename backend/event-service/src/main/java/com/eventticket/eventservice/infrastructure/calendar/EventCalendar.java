@@ -0,0 +1,287 @@
+package com.eventticket.eventservice.infrastructure.calendar;
+
+import com.eventticket.eventservice.domain.model.Event;
+import com.eventticket.eventservice.domain.port.EventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Published events by start day, so "what's on next" reads never touch the database.
+ *
+ * <p>A skip list maps each day to the array of that day's events sorted by start time, once for
+ * all events and once per category. Writers serialize on the calendar and replace a day's array
+ * copy-on-write, so readers walk the days without locking and stop after the first {@code limit}
+ * hits. A second skip list orders the same events by end time for {@link EventLifecycleSweeper}.</p>
+ *
+ * <p>Loaded at startup from the published events and kept current by
+ * {@link com.eventticket.eventservice.infrastructure.search.EventIndexMaintainer}, which only sees
+ * writes made by this instance. Every {@code app.calendar.reload-interval} the published events are
+ * read again and reconciled with the calendar, so changes made by other instances (such as their
+ * sweeps) show up within one interval. Entries that did not change are left in place.</p>
+ */
+@Component
+@Slf4j
+public class EventCalendar {
+    
+    private static final long DAY_MILLIS = Duration.ofDays(1).toMillis();
+    private static final Entry[] EMPTY = new Entry[0];
+    private static final Comparator<Entry> BY_START = Comparator.comparingLong(Entry::startMillis).thenComparing(Entry::eventId);
+    private static final Comparator<Entry> BY_END = Comparator.comparingLong(Entry::endMillis).thenComparing(Entry::eventId);
+    
+    private final EventRepository eventRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration retryDelay;
+    private final Duration reloadInterval;
+    
+    private final ConcurrentSkipListMap<Long, Entry[]> days = new ConcurrentSkipListMap<>();
+    private final Map<UUID, ConcurrentSkipListMap<Long, Entry[]>> daysByCategory = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> byEnd = new ConcurrentSkipListSet<>(BY_END);
+    
+    // Guarded by this
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final Set<UUID> changedWhileLoading = new HashSet<>();
+    private boolean loading = true;
+    
+    private volatile boolean ready;
+    private ScheduledExecutorService loader;
+    
+    public EventCalendar(
+            EventRepository eventRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.calendar.retry-delay:PT30S}") Duration retryDelay,
+            @Value("${app.calendar.reload-interval:PT5M}") Duration reloadInterval) {
+        this.eventRepository = eventRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.retryDelay = retryDelay;
+        this.reloadInterval = reloadInterval;
+    }
+    
+    @PostConstruct
+    public void start() {
+        loader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-calendar-load");
+            thread.setDaemon(true);
+            return thread;
+        });
+        loader.execute(this::load);
+        loader.scheduleWithFixedDelay(this::load, reloadInterval.toMillis(), reloadInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        loader.shutdownNow();
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * The first {@code limit} published events starting strictly after {@code afterMillis}, in
+     * start order, optionally restricted to one category.
+     */
+    public List<UUID> upcoming(long afterMillis, UUID categoryId, int limit) {
+        NavigableMap<Long, Entry[]> calendar = categoryId != null ? daysByCategory.get(categoryId) : days;
+        List<UUID> upcoming = new ArrayList<>(Math.max(0, limit));
+        if (calendar == null || limit <= 0) {
+            return upcoming;
+        }
+        
+        for (Entry[] day : calendar.tailMap(dayOf(afterMillis), true).values()) {
+            for (int i = firstAfter(day, afterMillis); i < day.length; i++) {
+                upcoming.add(day[i].eventId());
+                if (upcoming.size() == limit) {
+                    return upcoming;
+                }
+            }
+        }
+        return upcoming;
+    }
+    
+    /**
+     * Up to {@code limit} published events that ended before {@code nowMillis}, earliest end first.
+     */
+    public List<UUID> endedBefore(long nowMillis, int limit) {
+        List<UUID> ended = new ArrayList<>();
+        for (Entry entry : byEnd) {
+            if (entry.endMillis() >= nowMillis || ended.size() == limit) {
+                break;
+            }
+            ended.add(entry.eventId());
+        }
+        return ended;
+    }
+    
+    public synchronized void update(Event event) {
+        if (loading) {
+            changedWhileLoading.add(event.getEventId());
+        }
+        put(event);
+    }
+    
+    public synchronized void remove(UUID eventId) {
+        if (loading) {
+            changedWhileLoading.add(eventId);
+        }
+        removeEntry(eventId);
+    }
+    
+    void load() {
+        synchronized (this) {
+            loading = true;
+        }
+        try {
+            List<Event> published = readOnlyTransaction.execute(status -> eventRepository.findByStatus(Event.EventStatus.PUBLISHED));
+            boolean reload = ready;
+            int removed = 0;
+            synchronized (this) {
+                // Changes applied since the snapshot was read are newer than it
+                Set<UUID> snapshot = new HashSet<>();
+                for (Event event : published) {
+                    snapshot.add(event.getEventId());
+                    if (!changedWhileLoading.contains(event.getEventId())) {
+                        put(event);
+                    }
+                }
+                // Published here but no longer in the database: ended, cancelled or deleted elsewhere
+                for (UUID eventId : List.copyOf(entries.keySet())) {
+                    if (!snapshot.contains(eventId) && !changedWhileLoading.contains(eventId)) {
+                        removeEntry(eventId);
+                        removed++;
+                    }
+                }
+                changedWhileLoading.clear();
+                loading = false;
+                ready = true;
+            }
+            if (reload) {
+                log.debug("Event calendar reloaded with {} published events, {} removed", published.size(), removed);
+            } else {
+                log.info("Event calendar loaded with {} published events", published.size());
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedWhileLoading.clear();
+                loading = false;
+            }
+            if (ready) {
+                log.warn("Event calendar reload failed, keeping the current calendar until the next one", e);
+            } else {
+                log.warn("Event calendar load failed, retrying in {}", retryDelay, e);
+                loader.schedule(this::load, retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+    
+    private void put(Event event) {
+        if (!event.isPublished() || event.getEventDate() == null) {
+            removeEntry(event.getEventId());
+            return;
+        }
+        
+        Entry entry = new Entry(event.getEventId(), event.getCategoryId(), event.getEventDateMillis(), event.getEventEndDateMillis());
+        // Most events are unchanged on a reload; leave their day arrays alone
+        if (entry.equals(entries.get(entry.eventId()))) {
+            return;
+        }
+        removeEntry(entry.eventId());
+        entries.put(entry.eventId(), entry);
+        insert(days, entry);
+        if (entry.categoryId() != null) {
+            insert(daysByCategory.computeIfAbsent(entry.categoryId(), categoryId -> new ConcurrentSkipListMap<>()), entry);
+        }
+        // Open-ended events never end, so the sweep has nothing to do for them
+        if (entry.endMillis() != Long.MAX_VALUE) {
+            byEnd.add(entry);
+        }
+    }
+    
+    private void removeEntry(UUID eventId) {
+        Entry entry = entries.remove(eventId);
+        if (entry == null) {
+            return;
+        }
+        delete(days, entry);
+        if (entry.categoryId() != null) {
+            ConcurrentSkipListMap<Long, Entry[]> category = daysByCategory.get(entry.categoryId());
+            if (category != null) {
+                delete(category, entry);
+            }
+        }
+        byEnd.remove(entry);
+    }
+    
+    private static void insert(ConcurrentSkipListMap<Long, Entry[]> calendar, Entry entry) {
+        long day = dayOf(entry.startMillis());
+        Entry[] current = calendar.getOrDefault(day, EMPTY);
+        int at = -(Arrays.binarySearch(current, entry, BY_START) + 1);
+        Entry[] next = new Entry[current.length + 1];
+        System.arraycopy(current, 0, next, 0, at);
+        next[at] = entry;
+        System.arraycopy(current, at, next, at + 1, current.length - at);
+        calendar.put(day, next);
+    }
+    
+    private static void delete(ConcurrentSkipListMap<Long, Entry[]> calendar, Entry entry) {
+        long day = dayOf(entry.startMillis());
+        Entry[] current = calendar.get(day);
+        int at = current != null ? Arrays.binarySearch(current, entry, BY_START) : -1;
+        if (at < 0) {
+            return;
+        }
+        if (current.length == 1) {
+            calendar.remove(day);
+            return;
+        }
+        Entry[] next = new Entry[current.length - 1];
+        System.arraycopy(current, 0, next, 0, at);
+        System.arraycopy(current, at + 1, next, at, current.length - at - 1);
+        calendar.put(day, next);
+    }
+    
+    // Index of the first entry starting strictly after afterMillis
+    private static int firstAfter(Entry[] day, long afterMillis) {
+        int low = 0;
+        int high = day.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (day[mid].startMillis() <= afterMillis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    private static long dayOf(long millis) {
+        return Math.floorDiv(millis, DAY_MILLIS);
+    }
+    
+    private record Entry(UUID eventId, UUID categoryId, long startMillis, long endMillis) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.eventticket.eventservice.infrastructure.calendar;
+
+import com.eventticket.common.outbox.OutboxWriter;
+import com.eventticket.common.utils.TimeUtils;
+import com.eventticket.eventservice.domain.model.Event;
+import com.eventticket.eventservice.domain.model.EventStatusChanged;
+import com.eventticket.eventservice.domain.port.EventRepository;
+import com.eventticket.eventservice.infrastructure.cache.CachingEventService;
+import com.eventticket.eventservice.infrastructure.outbox.OutboxEventService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Moves published events whose end has passed to {@code ENDED}, so reads can rely on the stored
+ * status instead of comparing dates. Candidates come from the {@link EventCalendar}; each one is
+ * re-read and ended in its own transaction together with an {@code EventEnded} outbox message.
+ * The save bypasses the {@link CachingEventService}, so its entries are evicted once that commits.
+ */
+@Component
+@Slf4j
+public class EventLifecycleSweeper {
+    
+    private final EventCalendar calendar;
+    private final EventRepository eventRepository;
+    private final CachingEventService cachingEventService;
+    private final OutboxWriter outboxWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    
+    public EventLifecycleSweeper(
+            EventCalendar calendar,
+            EventRepository eventRepository,
+            CachingEventService cachingEventService,
+            OutboxWriter outboxWriter,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.calendar.sweep-batch-size:500}") int batchSize) {
+        this.calendar = calendar;
+        this.eventRepository = eventRepository;
+        this.cachingEventService = cachingEventService;
+        this.outboxWriter = outboxWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+    
+    @Scheduled(fixedDelayString = "${app.calendar.sweep-interval-ms:60000}")
+    public void sweep() {
+        if (!calendar.isReady()) {
+            return;
+        }
+        
+        long now = TimeUtils.currentMillis();
+        int ended = 0;
+        for (UUID eventId : calendar.endedBefore(now, batchSize)) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> end(eventId, now)))) {
+                    ended++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to end event {}, will retry on the next sweep", eventId, e);
+            }
+        }
+        if (ended > 0) {
+            log.info("Marked {} events as ended", ended);
+        }
+    }
+    
+    private boolean end(UUID eventId, long nowMillis) {
+        Optional<Event> found = eventRepository.findById(eventId);
+        if (found.isEmpty()) {
+            calendar.remove(eventId);
+            return false;
+        }
+        
+        Event event = found.get();
+        if (!event.isPublished() || !event.isEnded(nowMillis)) {
+            // Another instance got there first, or the calendar missed a change; resync the entry
+            calendar.update(event);
+            return false;
+        }
+        
+        event.end();
+        eventRepository.save(event);
+        outboxWriter.append(OutboxEventService.AGGREGATE_TYPE, eventId, "EventEnded",
+                new EventStatusChanged(eventId, event.getOrganizerId(), Event.EventStatus.ENDED, Instant.now()));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cachingEventService.evictEvent(eventId);
+            }
+        });
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.eventticket.eventservice.infrastructure.controller;
+
+import com.eventticket.common.response.ApiResponse;
+import com.eventticket.eventservice.application.dto.EventResponse;
+import com.eventticket.eventservice.application.service.EventCalendarService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/events/calendar")
+@RequiredArgsConstructor
+@Tag(name = "Event Calendar", description = "Upcoming published events served from memory")
+public class EventCalendarController {
+    
+    private final EventCalendarService eventCalendarService;
+    
+    @GetMapping("/upcoming")
+    @Operation(summary = "Get upcoming events", description = "Returns the next published events starting after the given time (default now), optionally in one category")
+    public ResponseEntity<ApiResponse<List<EventResponse>>> getUpcomingEvents(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime after,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<EventResponse> events = eventCalendarService.getUpcomingEvents(after, categoryId, limit);
+        
+        return ResponseEntity.ok(ApiResponse.success(events));
+    }
+}
\ No newline at end of file
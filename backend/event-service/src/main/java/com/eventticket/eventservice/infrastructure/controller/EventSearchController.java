@@ -0,0 +1,31 @@
+package com.eventticket.eventservice.infrastructure.controller;
+
+import com.eventticket.common.response.ApiResponse;
+import com.eventticket.eventservice.application.dto.EventSearchRequest;
+import com.eventticket.eventservice.application.dto.EventSearchResponse;
+import com.eventticket.eventservice.application.service.EventSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/events/search")
+@RequiredArgsConstructor
+@Tag(name = "Event Search", description = "Faceted and full-text search over published events")
+public class EventSearchController {
+    
+    private final EventSearchService eventSearchService;
+    
+    @GetMapping
+    @Operation(summary = "Search events", description = "Filters published events by category, venue, organizer, date range, price range, availability and free text, ordered by event date")
+    public ResponseEntity<ApiResponse<EventSearchResponse>> searchEvents(@Valid EventSearchRequest request) {
+        EventSearchResponse response = eventSearchService.search(request);
+        
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.eventticket.eventservice.infrastructure.inventory;
+
+import com.eventticket.common.exception.ApiException;
+import com.eventticket.eventservice.application.service.InventoryService;
+import com.eventticket.eventservice.domain.model.TicketType;
+import com.eventticket.eventservice.domain.port.TicketTypeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps ticket availability in memory so that reservations never take a database lock.
+ * Sold quantities are written back to {@link TicketTypeRepository} as batched deltas on a
+ * fixed delay; a failed write-back is retried on the next run. Each loaded ticket type is
+ * periodically reconciled with the stored sold count, so sales made by other instances (and
+ * edits to capacity or the sale window) reach this instance's counters.
+ */
+@Service
+@Slf4j
+public class InMemoryInventoryService implements InventoryService {
+    
+    private final TicketTypeRepository ticketTypeRepository;
+    private final int stripeCount;
+    private final Map<UUID, StripedInventory> inventories = new ConcurrentHashMap<>();
+    
+    // Write-back and reconciliation must not interleave, see StripedInventory.reconcile
+    private final Object writeBackLock = new Object();
+    
+    public InMemoryInventoryService(
+            TicketTypeRepository ticketTypeRepository,
+            @Value("${app.inventory.stripes:8}") int stripeCount) {
+        this.ticketTypeRepository = ticketTypeRepository;
+        this.stripeCount = stripeCount;
+    }
+    
+    @Override
+    public boolean tryReserve(UUID ticketTypeId, int quantity) {
+        if (quantity <= 0) {
+            throw ApiException.badRequest("Quantity must be positive");
+        }
+        
+        StripedInventory inventory = inventoryFor(ticketTypeId);
+        if (quantity > inventory.getMaxPerPurchase()) {
+            throw ApiException.badRequest("Cannot purchase more than " + inventory.getMaxPerPurchase() + " tickets");
+        }
+        if (!inventory.isOnSale(System.currentTimeMillis())) {
+            return false;
+        }
+        return inventory.tryReserve(quantity);
+    }
+    
+    @Override
+    public void release(UUID ticketTypeId, int quantity) {
+        if (quantity <= 0) {
+            throw ApiException.badRequest("Quantity must be positive");
+        }
+        int released = inventoryFor(ticketTypeId).release(quantity);
+        if (released < quantity) {
+            log.warn("Ignored release of {} of {} units for ticket type {}: more than are sold or held",
+                    quantity - released, quantity, ticketTypeId);
+        }
+    }
+    
+    @Override
+    public int getAvailableQuantity(UUID ticketTypeId) {
+        return (int) inventoryFor(ticketTypeId).available();
+    }
+    
+    @Override
+    @Scheduled(fixedDelayString = "${app.inventory.flush-interval-ms:500}")
+    public void flush() {
+        synchronized (writeBackLock) {
+            writeBack();
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${app.inventory.reconcile-interval-ms:5000}")
+    public void reconcile() {
+        synchronized (writeBackLock) {
+            for (UUID ticketTypeId : inventories.keySet()) {
+                try {
+                    Optional<TicketType> ticketType = ticketTypeRepository.findById(ticketTypeId);
+                    if (ticketType.isPresent()) {
+                        inventories.get(ticketTypeId).reconcile(ticketType.get());
+                    } else {
+                        // Deleted: there is no row left to write sales back to
+                        inventories.remove(ticketTypeId);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Failed to reconcile inventory for ticket type {}, will retry", ticketTypeId, e);
+                }
+            }
+        }
+    }
+    
+    private void writeBack() {
+        Map<UUID, Long> deltas = new HashMap<>();
+        inventories.forEach((ticketTypeId, inventory) -> {
+            long delta = inventory.drainPendingSold();
+            if (delta != 0) {
+                deltas.put(ticketTypeId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        
+        try {
+            ticketTypeRepository.incrementQuantitySold(deltas);
+            log.debug("Flushed sold quantities for {} ticket types", deltas.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush sold quantities for {} ticket types, will retry", deltas.size(), e);
+            deltas.forEach((ticketTypeId, delta) -> inventories.get(ticketTypeId).restorePendingSold(delta));
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+    
+    private StripedInventory inventoryFor(UUID ticketTypeId) {
+        StripedInventory inventory = inventories.get(ticketTypeId);
+        if (inventory != null) {
+            return inventory;
+        }
+        // Load outside computeIfAbsent: its bin lock would pin a virtual thread for the whole query
+        TicketType ticketType = ticketTypeRepository.findById(ticketTypeId)
+                .orElseThrow(() -> ApiException.notFound("Ticket type not found with ID: " + ticketTypeId));
+        StripedInventory loaded = new StripedInventory(ticketType, stripeCount);
+        StripedInventory existing = inventories.putIfAbsent(ticketTypeId, loaded);
+        return existing != null ? existing : loaded;
+    }
+}
\ No newline at end of file
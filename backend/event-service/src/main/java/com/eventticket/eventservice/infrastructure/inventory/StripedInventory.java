@@ -0,0 +1,229 @@
+package com.eventticket.eventservice.infrastructure.inventory;
+
+import com.eventticket.eventservice.domain.model.TicketType;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Remaining quantity of one ticket type, split across CAS stripes so that concurrent buyers
+ * mostly touch different cache lines. A reservation only ever decrements a stripe that holds
+ * enough units, so the sum of the stripes can never go below zero.
+ *
+ * <p>Each stripe packs its available units (high 32 bits) with its share of the units sold since
+ * the last write-back (low 32 bits, signed) into one long. Reservations and releases move units
+ * between the two halves in a single CAS, so every stripe's {@code available + pending} is constant
+ * under them. {@link #reconcile} relies on that: it can sum the stripes one by one while buyers are
+ * active and still compute an exact adjustment.</p>
+ */
+class StripedInventory {
+    
+    // One counter per 64-byte cache line
+    private static final int PADDING = 8;
+    
+    private final AtomicLongArray stripes;
+    private final int stripeCount;
+    private volatile int maxPerPurchase;
+    private volatile boolean active;
+    private volatile long saleStartMillis;
+    private volatile long saleEndMillis;
+    
+    // Units sold or held, as last reconciled plus local reservations minus releases; bounds release()
+    private final AtomicLong sold = new AtomicLong();
+    
+    StripedInventory(TicketType ticketType, int stripeCount) {
+        this.stripeCount = stripeCount;
+        this.stripes = new AtomicLongArray(stripeCount * PADDING);
+        refreshSettings(ticketType);
+        
+        long available = Math.max(0, ticketType.getAvailableQuantity());
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.set(i * PADDING, pack(available / stripeCount + (i < available % stripeCount ? 1 : 0), 0));
+        }
+        sold.set(Math.max(0, ticketType.getQuantityAvailable() - available));
+    }
+    
+    boolean isOnSale(long nowMillis) {
+        return active && nowMillis >= saleStartMillis && nowMillis <= saleEndMillis;
+    }
+    
+    int getMaxPerPurchase() {
+        return maxPerPurchase;
+    }
+    
+    boolean tryReserve(int quantity) {
+        int home = homeStripe();
+        long taken = 0;
+        for (int i = 0; i < stripeCount && taken < quantity; i++) {
+            taken += takeUpTo((home + i) % stripeCount, quantity - taken);
+        }
+        if (taken < quantity) {
+            // Not enough units left across all stripes: give back what was taken, as a release
+            // would, so that available + pending of every stripe stays unchanged
+            if (taken > 0) {
+                move(home, taken);
+            }
+            return false;
+        }
+        sold.addAndGet(quantity);
+        return true;
+    }
+    
+    /**
+     * Returns up to {@code quantity} units, never more than are currently sold or held, so a
+     * duplicate release cannot lift availability above capacity. Returns the units released.
+     */
+    int release(int quantity) {
+        long released;
+        while (true) {
+            long current = sold.get();
+            released = Math.min(current, quantity);
+            if (released <= 0) {
+                return 0;
+            }
+            if (sold.compareAndSet(current, current - released)) {
+                break;
+            }
+        }
+        move(homeStripe(), released);
+        return (int) released;
+    }
+    
+    /**
+     * Re-bases availability on the stored ticket type, which includes every instance's flushed
+     * sales, less this instance's sales not yet written back. Reservations and releases may run
+     * concurrently; a write-back must not, or the same units would be counted twice.
+     */
+    void reconcile(TicketType ticketType) {
+        refreshSettings(ticketType);
+        
+        long storedSold = ticketType.getQuantitySold() != null ? ticketType.getQuantitySold() : 0;
+        long capacity = ticketType.getQuantityAvailable() != null ? ticketType.getQuantityAvailable() : 0;
+        // available + pending, which reservations and releases leave unchanged stripe by stripe
+        long unsold = 0;
+        for (int i = 0; i < stripeCount; i++) {
+            long word = stripes.get(i * PADDING);
+            unsold += availableOf(word) + pendingOf(word);
+        }
+        
+        long adjustment = capacity - storedSold - unsold;
+        if (adjustment > 0) {
+            addAvailable(homeStripe(), adjustment);
+            sold.addAndGet(-adjustment);
+        } else if (adjustment < 0) {
+            // Never below zero: units already reserved here stay reserved
+            long taken = 0;
+            for (int i = 0; i < stripeCount && taken < -adjustment; i++) {
+                taken += removeUpTo(i, -adjustment - taken);
+            }
+            sold.addAndGet(taken);
+        }
+    }
+    
+    long available() {
+        long sum = 0;
+        for (int i = 0; i < stripeCount; i++) {
+            sum += availableOf(stripes.get(i * PADDING));
+        }
+        return sum;
+    }
+    
+    long drainPendingSold() {
+        long drained = 0;
+        for (int i = 0; i < stripeCount; i++) {
+            int index = i * PADDING;
+            long word;
+            do {
+                word = stripes.get(index);
+            } while (!stripes.compareAndSet(index, word, pack(availableOf(word), 0)));
+            drained += pendingOf(word);
+        }
+        return drained;
+    }
+    
+    void restorePendingSold(long delta) {
+        int index = homeStripe() * PADDING;
+        long word;
+        do {
+            word = stripes.get(index);
+        } while (!stripes.compareAndSet(index, word, pack(availableOf(word), pendingOf(word) + delta)));
+    }
+    
+    // Takes available units and records them as pending sales
+    private long takeUpTo(int stripe, long wanted) {
+        int index = stripe * PADDING;
+        while (true) {
+            long current = stripes.get(index);
+            long available = availableOf(current);
+            if (available <= 0) {
+                return 0;
+            }
+            long take = Math.min(available, wanted);
+            if (stripes.compareAndSet(index, current, pack(available - take, pendingOf(current) + take))) {
+                return take;
+            }
+        }
+    }
+    
+    // Returns units from pending sales to available
+    private void move(int stripe, long units) {
+        int index = stripe * PADDING;
+        long word;
+        do {
+            word = stripes.get(index);
+        } while (!stripes.compareAndSet(index, word, pack(availableOf(word) + units, pendingOf(word) - units)));
+    }
+    
+    private void addAvailable(int stripe, long units) {
+        int index = stripe * PADDING;
+        long word;
+        do {
+            word = stripes.get(index);
+        } while (!stripes.compareAndSet(index, word, pack(availableOf(word) + units, pendingOf(word))));
+    }
+    
+    // Reconcile takes available units without touching pending, shrinking available + pending
+    private long removeUpTo(int stripe, long wanted) {
+        int index = stripe * PADDING;
+        while (true) {
+            long current = stripes.get(index);
+            long available = availableOf(current);
+            if (available <= 0) {
+                return 0;
+            }
+            long take = Math.min(available, wanted);
+            if (stripes.compareAndSet(index, current, pack(available - take, pendingOf(current)))) {
+                return take;
+            }
+        }
+    }
+    
+    private static long pack(long available, long pending) {
+        return (available << 32) | (pending & 0xFFFF_FFFFL);
+    }
+    
+    private static long availableOf(long word) {
+        return word >>> 32;
+    }
+    
+    private static long pendingOf(long word) {
+        return (int) word;
+    }
+    
+    private void refreshSettings(TicketType ticketType) {
+        this.maxPerPurchase = ticketType.getMaxPerPurchase() != null ? ticketType.getMaxPerPurchase() : Integer.MAX_VALUE;
+        this.active = Boolean.TRUE.equals(ticketType.getIsActive());
+        this.saleStartMillis = toEpochMillis(ticketType.getSaleStartDate(), Long.MIN_VALUE);
+        this.saleEndMillis = toEpochMillis(ticketType.getSaleEndDate(), Long.MAX_VALUE);
+    }
+    
+    private int homeStripe() {
+        return (int) (Thread.currentThread().getId() % stripeCount);
+    }
+    
+    private static long toEpochMillis(LocalDateTime dateTime, long defaultValue) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : defaultValue;
+    }
+}
\ No newline at end of file
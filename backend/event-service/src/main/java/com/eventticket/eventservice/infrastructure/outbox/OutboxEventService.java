@@ -0,0 +1,155 @@
+package com.eventticket.eventservice.infrastructure.outbox;
+
+import com.eventticket.common.outbox.OutboxWriter;
+import com.eventticket.common.response.CursorPage;
+import com.eventticket.eventservice.application.dto.CreateEventRequest;
+import com.eventticket.eventservice.application.dto.EventResponse;
+import com.eventticket.eventservice.application.dto.UpdateEventRequest;
+import com.eventticket.eventservice.application.service.EventService;
+import com.eventticket.eventservice.domain.model.Event;
+import com.eventticket.eventservice.domain.model.EventStatusChanged;
+import com.eventticket.eventservice.domain.port.EventRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Records event lifecycle changes in the outbox. Each state-changing call opens the transaction
+ * itself, so the delegate's update and the outbox row commit or roll back together.
+ */
+@Service
+public class OutboxEventService implements EventService {
+    
+    public static final String AGGREGATE_TYPE = "event";
+    
+    private final EventService delegate;
+    private final EventRepository eventRepository;
+    private final OutboxWriter outboxWriter;
+    
+    public OutboxEventService(@Qualifier("eventServiceImpl") EventService delegate, EventRepository eventRepository,
+                              OutboxWriter outboxWriter) {
+        this.delegate = delegate;
+        this.eventRepository = eventRepository;
+        this.outboxWriter = outboxWriter;
+    }
+    
+    @Override
+    public EventResponse createEvent(CreateEventRequest request, UUID organizerId) {
+        return delegate.createEvent(request, organizerId);
+    }
+    
+    @Override
+    public EventResponse getEventById(UUID eventId) {
+        return delegate.getEventById(eventId);
+    }
+    
+    @Override
+    public List<EventResponse> getEventsByIds(List<UUID> eventIds) {
+        return delegate.getEventsByIds(eventIds);
+    }
+    
+    @Override
+    public List<EventResponse> getAllEvents(int page, int size) {
+        return delegate.getAllEvents(page, size);
+    }
+    
+    @Override
+    public List<EventResponse> getEventsByOrganizer(UUID organizerId, int page, int size) {
+        return delegate.getEventsByOrganizer(organizerId, page, size);
+    }
+    
+    @Override
+    public List<EventResponse> getEventsByCategory(UUID categoryId, int page, int size) {
+        return delegate.getEventsByCategory(categoryId, page, size);
+    }
+    
+    @Override
+    public CursorPage<EventResponse> getEvents(String cursor, int size) {
+        return delegate.getEvents(cursor, size);
+    }
+    
+    @Override
+    public CursorPage<EventResponse> getEventsByOrganizer(UUID organizerId, String cursor, int size) {
+        return delegate.getEventsByOrganizer(organizerId, cursor, size);
+    }
+    
+    @Override
+    public CursorPage<EventResponse> getEventsByCategory(UUID categoryId, String cursor, int size) {
+        return delegate.getEventsByCategory(categoryId, cursor, size);
+    }
+    
+    @Override
+    public List<EventResponse> getFeaturedEvents() {
+        return delegate.getFeaturedEvents();
+    }
+    
+    @Override
+    public List<EventResponse> getUpcomingEvents() {
+        return delegate.getUpcomingEvents();
+    }
+    
+    @Override
+    public Map<UUID, Integer> getTicketAvailability(UUID eventId) {
+        return delegate.getTicketAvailability(eventId);
+    }
+    
+    @Override
+    public EventResponse updateEvent(UUID eventId, UpdateEventRequest request, UUID organizerId) {
+        return delegate.updateEvent(eventId, request, organizerId);
+    }
+    
+    @Override
+    public void deleteEvent(UUID eventId, UUID organizerId) {
+        delegate.deleteEvent(eventId, organizerId);
+    }
+    
+    @Override
+    @Transactional
+    public void approveEvent(UUID eventId) {
+        delegate.approveEvent(eventId);
+        // Approval is an admin action, so the organizer comes from the event just updated in this transaction
+        UUID organizerId = eventRepository.findById(eventId)
+                .map(Event::getOrganizerId)
+                .orElseThrow(() -> new IllegalStateException("Approved event " + eventId + " not found"));
+        record(eventId, organizerId, Event.EventStatus.PUBLISHED, "EventApproved");
+    }
+    
+    @Override
+    public void rejectEvent(UUID eventId) {
+        delegate.rejectEvent(eventId);
+    }
+    
+    @Override
+    @Transactional
+    public void publishEvent(UUID eventId, UUID organizerId) {
+        delegate.publishEvent(eventId, organizerId);
+        record(eventId, organizerId, Event.EventStatus.PUBLISHED, "EventPublished");
+    }
+    
+    @Override
+    @Transactional
+    public void cancelEvent(UUID eventId, UUID organizerId) {
+        delegate.cancelEvent(eventId, organizerId);
+        record(eventId, organizerId, Event.EventStatus.CANCELLED, "EventCancelled");
+    }
+    
+    @Override
+    public void markEventAsFeatured(UUID eventId) {
+        delegate.markEventAsFeatured(eventId);
+    }
+    
+    @Override
+    public void removeEventFromFeatured(UUID eventId) {
+        delegate.removeEventFromFeatured(eventId);
+    }
+    
+    private void record(UUID eventId, UUID organizerId, Event.EventStatus status, String eventType) {
+        outboxWriter.append(AGGREGATE_TYPE, eventId, eventType,
+                new EventStatusChanged(eventId, organizerId, status, Instant.now()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.eventticket.eventservice.infrastructure.search;
+
+import com.eventticket.eventservice.domain.model.Event;
+import com.eventticket.eventservice.domain.model.TicketType;
+import com.eventticket.eventservice.infrastructure.calendar.EventCalendar;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Feeds every successful write through the event and ticket type ports into the
+ * {@link EventSearchIndex} and, for events, the {@link EventCalendar}. Inside a transaction the change is applied once it commits, so the
+ * index never shows a write that is later rolled back.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class EventIndexMaintainer {
+    
+    private final EventSearchIndex searchIndex;
+    private final EventCalendar calendar;
+    
+    @AfterReturning(pointcut = "execution(* com.eventticket.eventservice.domain.port.EventRepository+.save(..))",
+            returning = "saved")
+    public void onEventSaved(Event saved) {
+        afterCommit(() -> {
+            searchIndex.index(saved);
+            calendar.update(saved);
+        });
+    }
+    
+    @AfterReturning("execution(* com.eventticket.eventservice.domain.port.EventRepository+.deleteById(..)) && args(eventId)")
+    public void onEventDeleted(UUID eventId) {
+        afterCommit(() -> {
+            searchIndex.remove(eventId);
+            calendar.remove(eventId);
+        });
+    }
+    
+    @AfterReturning(pointcut = "execution(* com.eventticket.eventservice.domain.port.TicketTypeRepository+.save(..))",
+            returning = "saved")
+    public void onTicketTypeSaved(TicketType saved) {
+        afterCommit(() -> searchIndex.indexTicketType(saved));
+    }
+    
+    @AfterReturning("execution(* com.eventticket.eventservice.domain.port.TicketTypeRepository+.deleteById(..)) && args(ticketTypeId)")
+    public void onTicketTypeDeleted(UUID ticketTypeId) {
+        afterCommit(() -> searchIndex.removeTicketType(ticketTypeId));
+    }
+    
+    @AfterReturning("execution(* com.eventticket.eventservice.domain.port.TicketTypeRepository+.incrementQuantitySold(..)) && args(soldDeltas)")
+    public void onTicketsSold(Map<UUID, Long> soldDeltas) {
+        // The caller may reuse its map once this returns
+        Map<UUID, Long> deltas = Map.copyOf(soldDeltas);
+        afterCommit(() -> searchIndex.recordSales(deltas));
+    }
+    
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+}
\ No newline at end of file
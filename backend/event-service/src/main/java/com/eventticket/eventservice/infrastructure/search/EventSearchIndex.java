@@ -0,0 +1,669 @@
+package com.eventticket.eventservice.infrastructure.search;
+
+import com.eventticket.common.exception.ApiException;
+import com.eventticket.common.utils.TimeUtils;
+import com.eventticket.eventservice.domain.model.Event;
+import com.eventticket.eventservice.domain.model.TicketType;
+import com.eventticket.eventservice.domain.port.EventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.roaringbitmap.RoaringBitmapWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process search index over every dated event.
+ *
+ * <p>Each event gets a dense document number. Category, venue, organizer and status map to
+ * Roaring bitmaps of documents, as does every token of the title and the first description
+ * tokens, and the events with tickets left. Event date and lowest active ticket price are indexed
+ * by {@link RangeIndex}. A query intersects the bitmaps, smallest first; range filters over a
+ * small candidate set check the per-document values instead of building a range bitmap. Results
+ * are ordered by event date by walking the day buckets of the date index, so a page never sorts
+ * more than a day's matches.</p>
+ *
+ * <p>The index is built at startup by paging through {@link EventRepository#findPageAfter} and is
+ * kept current by {@link EventIndexMaintainer} after every change committed on this instance. The
+ * same pass runs again every {@code app.search.refresh-interval}, so changes made by other
+ * instances show up within one interval, and events it no longer finds are dropped. Availability
+ * is advisory: the inventory still decides at checkout.</p>
+ */
+@Component
+@Slf4j
+public class EventSearchIndex {
+    
+    private static final long NO_PRICE = -1;
+    private static final long DAY_MILLIS = Duration.ofDays(1).toMillis();
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int MAX_TOKEN_LENGTH = 32;
+    private static final int MAX_PREFIX_EXPANSION = 256;
+    private static final int RANGE_SCAN_THRESHOLD = 4096;
+    
+    private final EventRepository eventRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int pageSize;
+    private final int maxDescriptionTerms;
+    private final Duration retryDelay;
+    private final Duration refreshInterval;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> docIds = new HashMap<>();
+    private Doc[] docs = new Doc[1024];
+    private long[] dates = new long[1024];
+    private long[] prices = new long[1024];
+    private int nextDoc;
+    
+    private final Map<UUID, RoaringBitmap> byCategory = new HashMap<>();
+    private final Map<UUID, RoaringBitmap> byVenue = new HashMap<>();
+    private final Map<UUID, RoaringBitmap> byOrganizer = new HashMap<>();
+    private final Map<Event.EventStatus, RoaringBitmap> byStatus = new EnumMap<>(Event.EventStatus.class);
+    private final NavigableMap<String, RoaringBitmap> terms = new TreeMap<>();
+    private final RoaringBitmap available = new RoaringBitmap();
+    private final RangeIndex dateIndex = new RangeIndex(DAY_MILLIS);
+    private final RangeIndex priceIndex;
+    private final Map<UUID, Ticket> tickets = new HashMap<>();
+    
+    // Events indexed or deleted while a build runs, so a page read before the change cannot undo it
+    private final Set<UUID> changedWhileBuilding = new HashSet<>();
+    private boolean building = true;
+    private volatile boolean ready;
+    private ScheduledExecutorService builder;
+    
+    public EventSearchIndex(
+            EventRepository eventRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.search.build-page-size:1000}") int pageSize,
+            @Value("${app.search.max-description-terms:64}") int maxDescriptionTerms,
+            @Value("${app.search.price-bucket-width:100}") long priceBucketWidth,
+            @Value("${app.search.retry-delay:PT30S}") Duration retryDelay,
+            @Value("${app.search.refresh-interval:PT5M}") Duration refreshInterval) {
+        this.eventRepository = eventRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.pageSize = pageSize;
+        this.maxDescriptionTerms = maxDescriptionTerms;
+        this.priceIndex = new RangeIndex(priceBucketWidth);
+        this.retryDelay = retryDelay;
+        this.refreshInterval = refreshInterval;
+    }
+    
+    @PostConstruct
+    public void start() {
+        builder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-search-index-build");
+            thread.setDaemon(true);
+            return thread;
+        });
+        builder.execute(this::build);
+        builder.scheduleWithFixedDelay(this::build, refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        builder.shutdownNow();
+    }
+    
+    public Hits search(Query query) {
+        if (!ready) {
+            throw new ApiException("Event search is starting up, please retry shortly",
+                    HttpStatus.SERVICE_UNAVAILABLE, "SEARCH_INDEX_WARMING");
+        }
+        
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = match(query);
+            int total = matches.getCardinality();
+            long from = query.fromMillis() != null ? query.fromMillis() : Long.MIN_VALUE;
+            return new Hits(page(matches, total, from, query.offset(), query.limit()), total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public void index(Event event) {
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                changedWhileBuilding.add(event.getEventId());
+            }
+            upsert(event, false);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(UUID eventId) {
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                changedWhileBuilding.add(eventId);
+            }
+            removeDoc(eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // Ticket types of events that are not indexed yet arrive with the event itself
+    public void indexTicketType(TicketType ticketType) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docIds.get(ticketType.getEventId());
+            if (doc != null) {
+                putTicket(doc, docs[doc], ticketType);
+                refreshTickets(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void removeTicketType(UUID ticketTypeId) {
+        lock.writeLock().lock();
+        try {
+            Ticket ticket = tickets.remove(ticketTypeId);
+            if (ticket != null) {
+                docs[ticket.doc].tickets.remove(ticket);
+                refreshTickets(ticket.doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void recordSales(Map<UUID, Long> soldDeltas) {
+        lock.writeLock().lock();
+        try {
+            Set<Integer> changed = new HashSet<>();
+            soldDeltas.forEach((ticketTypeId, sold) -> {
+                Ticket ticket = tickets.get(ticketTypeId);
+                if (ticket != null) {
+                    ticket.remaining -= sold;
+                    changed.add(ticket.doc);
+                }
+            });
+            changed.forEach(this::refreshTickets);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    void build() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            building = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            LocalDateTime afterDate = null;
+            UUID afterId = null;
+            long count = 0;
+            Set<UUID> found = new HashSet<>();
+            List<Event> page;
+            do {
+                LocalDateTime pageAfterDate = afterDate;
+                UUID pageAfterId = afterId;
+                page = readOnlyTransaction.execute(status -> eventRepository.findPageAfter(pageAfterDate, pageAfterId, pageSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                
+                lock.writeLock().lock();
+                try {
+                    for (Event event : page) {
+                        found.add(event.getEventId());
+                        upsert(event, true);
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                count += page.size();
+                Event last = page.get(page.size() - 1);
+                afterDate = last.getEventDate();
+                afterId = last.getEventId();
+            } while (page.size() == pageSize);
+            
+            boolean refresh = ready;
+            int removed = 0;
+            lock.writeLock().lock();
+            try {
+                // Indexed here but no longer in the database: deleted by another instance
+                for (UUID eventId : List.copyOf(docIds.keySet())) {
+                    if (!found.contains(eventId) && !changedWhileBuilding.contains(eventId)) {
+                        removeDoc(eventId);
+                        removed++;
+                    }
+                }
+                optimize();
+                changedWhileBuilding.clear();
+                building = false;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (refresh) {
+                log.debug("Event search index refreshed from {} events, {} removed, in {} ms", count, removed,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } else {
+                log.info("Event search index built from {} events in {} ms", count,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changedWhileBuilding.clear();
+                building = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (ready) {
+                log.warn("Event search index refresh failed, keeping the current index until the next one", e);
+            } else {
+                log.warn("Event search index build failed, retrying in {}", retryDelay, e);
+                builder.schedule(this::build, retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+    
+    private RoaringBitmap match(Query query) {
+        List<RoaringBitmap> filters = new ArrayList<>();
+        filters.add(byStatus.get(query.status()));
+        if (query.categoryId() != null) {
+            filters.add(byCategory.get(query.categoryId()));
+        }
+        if (query.venueId() != null) {
+            filters.add(byVenue.get(query.venueId()));
+        }
+        if (query.organizerId() != null) {
+            filters.add(byOrganizer.get(query.organizerId()));
+        }
+        if (query.availableOnly()) {
+            filters.add(available);
+        }
+        
+        // Every query token must match; the last one may still be being typed, so it matches as a prefix
+        List<String> queryTokens = new ArrayList<>(tokens(query.text(), Integer.MAX_VALUE));
+        for (int i = 0; i < queryTokens.size(); i++) {
+            String token = queryTokens.get(i);
+            filters.add(i < queryTokens.size() - 1 ? terms.get(token) : withPrefix(token));
+        }
+        
+        if (filters.contains(null)) {
+            return new RoaringBitmap();
+        }
+        filters.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+        RoaringBitmap result = filters.get(0).clone();
+        for (int i = 1; i < filters.size() && !result.isEmpty(); i++) {
+            result.and(filters.get(i));
+        }
+        
+        if (query.fromMillis() != null || query.toMillis() != null) {
+            result = restrict(result, dateIndex, dates,
+                    query.fromMillis() != null ? query.fromMillis() : Long.MIN_VALUE,
+                    query.toMillis() != null ? query.toMillis() : Long.MAX_VALUE);
+        }
+        // Events without an active price never match a price filter
+        if (query.minPriceMinor() != null || query.maxPriceMinor() != null) {
+            result = restrict(result, priceIndex, prices,
+                    query.minPriceMinor() != null ? Math.max(0, query.minPriceMinor()) : 0,
+                    query.maxPriceMinor() != null ? query.maxPriceMinor() : Long.MAX_VALUE);
+        }
+        return result;
+    }
+    
+    private RoaringBitmap withPrefix(String prefix) {
+        Collection<RoaringBitmap> expansions = terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+        if (expansions.isEmpty()) {
+            return null;
+        }
+        int count = expansions.size();
+        if (count > MAX_PREFIX_EXPANSION) {
+            // Too short a prefix to be selective; treat it as a whole word
+            return terms.get(prefix);
+        }
+        if (count == 1) {
+            return expansions.iterator().next();
+        }
+        return FastAggregation.or(expansions.iterator());
+    }
+    
+    private static RoaringBitmap restrict(RoaringBitmap candidates, RangeIndex index, long[] values, long min, long max) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        if (candidates.getCardinality() <= RANGE_SCAN_THRESHOLD) {
+            RoaringBitmapWriter<RoaringBitmap> kept = RoaringBitmapWriter.writer().get();
+            candidates.forEach((int doc) -> {
+                if (values[doc] >= min && values[doc] <= max) {
+                    kept.add(doc);
+                }
+            });
+            return kept.get();
+        }
+        return index.within(candidates, min, max, values);
+    }
+    
+    private List<UUID> page(RoaringBitmap matches, int total, long fromMillis, int offset, int limit) {
+        List<UUID> page = new ArrayList<>(Math.min(limit, total));
+        if (offset >= total || limit == 0) {
+            return page;
+        }
+        
+        int seen = 0;
+        for (RoaringBitmap bucket : dateIndex.bucketsFrom(fromMillis)) {
+            int count = RoaringBitmap.andCardinality(bucket, matches);
+            if (count == 0) {
+                continue;
+            }
+            if (seen + count <= offset) {
+                seen += count;
+                continue;
+            }
+            
+            List<Integer> day = new ArrayList<>(count);
+            RoaringBitmap.and(bucket, matches).forEach((int doc) -> day.add(doc));
+            day.sort(Comparator.<Integer>comparingLong(doc -> dates[doc]).thenComparing(doc -> docs[doc].eventId));
+            for (int doc : day) {
+                if (seen++ < offset) {
+                    continue;
+                }
+                page.add(docs[doc].eventId);
+                if (page.size() == limit) {
+                    return page;
+                }
+            }
+            if (seen >= total) {
+                break;
+            }
+        }
+        return page;
+    }
+    
+    private void upsert(Event event, boolean fromBuild) {
+        UUID eventId = event.getEventId();
+        if (eventId == null || fromBuild && changedWhileBuilding.contains(eventId)) {
+            return;
+        }
+        // Without a date an event can be neither ordered nor range-filtered
+        if (event.getEventDate() == null) {
+            removeDoc(eventId);
+            return;
+        }
+        
+        Integer existing = docIds.get(eventId);
+        int doc;
+        Doc entry;
+        if (existing != null) {
+            doc = existing;
+            entry = docs[doc];
+            // A page read by the initial build may be older than a change indexed since
+            if (event.getUpdatedAt() != null && TimeUtils.toEpochMillis(event.getUpdatedAt()) < entry.updatedMillis) {
+                return;
+            }
+            unpost(doc, entry);
+        } else {
+            doc = allocate(eventId);
+            entry = new Doc(eventId);
+            docs[doc] = entry;
+            prices[doc] = NO_PRICE;
+        }
+        
+        entry.categoryId = event.getCategoryId();
+        entry.venueId = event.getVenueId();
+        entry.organizerId = event.getOrganizerId();
+        entry.status = event.getStatus();
+        entry.terms = termsOf(event);
+        if (event.getUpdatedAt() != null) {
+            entry.updatedMillis = TimeUtils.toEpochMillis(event.getUpdatedAt());
+        }
+        dates[doc] = event.getEventDateMillis();
+        post(doc, entry);
+        
+        // An event saved without its ticket types keeps the ones indexed so far
+        if (event.getTicketTypes() != null && (!event.getTicketTypes().isEmpty() || existing == null)) {
+            for (Ticket ticket : entry.tickets) {
+                tickets.remove(ticket.ticketTypeId);
+            }
+            entry.tickets.clear();
+            for (TicketType ticketType : event.getTicketTypes()) {
+                putTicket(doc, entry, ticketType);
+            }
+        }
+        refreshTickets(doc);
+    }
+    
+    private void removeDoc(UUID eventId) {
+        Integer doc = docIds.remove(eventId);
+        if (doc == null) {
+            return;
+        }
+        Doc entry = docs[doc];
+        unpost(doc, entry);
+        for (Ticket ticket : entry.tickets) {
+            tickets.remove(ticket.ticketTypeId);
+        }
+        if (prices[doc] != NO_PRICE) {
+            priceIndex.remove(doc, prices[doc]);
+        }
+        available.remove(doc);
+        // Document numbers are not reused; the slot stays empty until the next restart
+        docs[doc] = null;
+    }
+    
+    private int allocate(UUID eventId) {
+        if (nextDoc == docs.length) {
+            int capacity = docs.length * 2;
+            docs = Arrays.copyOf(docs, capacity);
+            dates = Arrays.copyOf(dates, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+        }
+        int doc = nextDoc++;
+        docIds.put(eventId, doc);
+        return doc;
+    }
+    
+    private void post(int doc, Doc entry) {
+        addPosting(byCategory, entry.categoryId, doc);
+        addPosting(byVenue, entry.venueId, doc);
+        addPosting(byOrganizer, entry.organizerId, doc);
+        addPosting(byStatus, entry.status, doc);
+        for (String term : entry.terms) {
+            addPosting(terms, term, doc);
+        }
+        dateIndex.add(doc, dates[doc]);
+    }
+    
+    private void unpost(int doc, Doc entry) {
+        removePosting(byCategory, entry.categoryId, doc);
+        removePosting(byVenue, entry.venueId, doc);
+        removePosting(byOrganizer, entry.organizerId, doc);
+        removePosting(byStatus, entry.status, doc);
+        for (String term : entry.terms) {
+            removePosting(terms, term, doc);
+        }
+        dateIndex.remove(doc, dates[doc]);
+    }
+    
+    private static <K> void addPosting(Map<K, RoaringBitmap> postings, K key, int doc) {
+        if (key != null) {
+            postings.computeIfAbsent(key, k -> new RoaringBitmap()).add(doc);
+        }
+    }
+    
+    private static <K> void removePosting(Map<K, RoaringBitmap> postings, K key, int doc) {
+        if (key == null) {
+            return;
+        }
+        RoaringBitmap docs = postings.get(key);
+        if (docs != null) {
+            docs.remove(doc);
+            if (docs.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+    
+    private void putTicket(int doc, Doc entry, TicketType ticketType) {
+        Ticket ticket = tickets.get(ticketType.getTicketTypeId());
+        if (ticket == null) {
+            ticket = new Ticket(ticketType.getTicketTypeId(), doc);
+            tickets.put(ticket.ticketTypeId, ticket);
+            entry.tickets.add(ticket);
+        }
+        long quantity = ticketType.getQuantityAvailable() != null ? ticketType.getQuantityAvailable() : 0;
+        long sold = ticketType.getQuantitySold() != null ? ticketType.getQuantitySold() : 0;
+        ticket.remaining = quantity - sold;
+        ticket.priceMinor = ticketType.getPrice() != null ? toMinorUnits(ticketType.getPrice()) : NO_PRICE;
+        ticket.active = Boolean.TRUE.equals(ticketType.getIsActive());
+    }
+    
+    // Recomputes the event's lowest active price and availability from its ticket types
+    private void refreshTickets(int doc) {
+        Doc entry = docs[doc];
+        long lowest = NO_PRICE;
+        long remaining = 0;
+        for (Ticket ticket : entry.tickets) {
+            if (!ticket.active) {
+                continue;
+            }
+            remaining += Math.max(0, ticket.remaining);
+            if (ticket.priceMinor != NO_PRICE && (lowest == NO_PRICE || ticket.priceMinor < lowest)) {
+                lowest = ticket.priceMinor;
+            }
+        }
+        
+        if (lowest != prices[doc]) {
+            if (prices[doc] != NO_PRICE) {
+                priceIndex.remove(doc, prices[doc]);
+            }
+            if (lowest != NO_PRICE) {
+                priceIndex.add(doc, lowest);
+            }
+            prices[doc] = lowest;
+        }
+        if (remaining > 0) {
+            available.add(doc);
+        } else {
+            available.remove(doc);
+        }
+    }
+    
+    private void optimize() {
+        byCategory.values().forEach(RoaringBitmap::runOptimize);
+        byVenue.values().forEach(RoaringBitmap::runOptimize);
+        byOrganizer.values().forEach(RoaringBitmap::runOptimize);
+        byStatus.values().forEach(RoaringBitmap::runOptimize);
+        terms.values().forEach(RoaringBitmap::runOptimize);
+        available.runOptimize();
+        dateIndex.runOptimize();
+        priceIndex.runOptimize();
+    }
+    
+    private String[] termsOf(Event event) {
+        Set<String> eventTerms = tokens(event.getEventTitle(), Integer.MAX_VALUE);
+        // Long descriptions would dominate the postings; their opening words carry most of the signal
+        eventTerms.addAll(tokens(event.getDescription(), maxDescriptionTerms));
+        return eventTerms.toArray(new String[0]);
+    }
+    
+    /**
+     * Distinct lower-case runs of letters and digits, in order of first appearance.
+     */
+    static Set<String> tokens(String text, int limit) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length() && tokens.size() < limit; i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start >= MIN_TOKEN_LENGTH) {
+                    tokens.add(text.substring(start, Math.min(i, start + MAX_TOKEN_LENGTH)).toLowerCase(Locale.ROOT));
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+    
+    static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+    
+    /**
+     * Filters of a search; null fields do not filter. Dates are epoch millis and prices minor
+     * units, both inclusive.
+     */
+    public record Query(String text, UUID categoryId, UUID venueId, UUID organizerId, Event.EventStatus status,
+                        Long fromMillis, Long toMillis, Long minPriceMinor, Long maxPriceMinor,
+                        boolean availableOnly, int offset, int limit) {
+    }
+    
+    public record Hits(List<UUID> eventIds, int total) {
+    }
+    
+    private static final class Doc {
+        
+        private final UUID eventId;
+        private final List<Ticket> tickets = new ArrayList<>(4);
+        private UUID categoryId;
+        private UUID venueId;
+        private UUID organizerId;
+        private Event.EventStatus status;
+        private String[] terms = new String[0];
+        private long updatedMillis = Long.MIN_VALUE;
+        
+        private Doc(UUID eventId) {
+            this.eventId = eventId;
+        }
+    }
+    
+    private static final class Ticket {
+        
+        private final UUID ticketTypeId;
+        private final int doc;
+        private long remaining;
+        private long priceMinor;
+        private boolean active;
+        
+        private Ticket(UUID ticketTypeId, int doc) {
+            this.ticketTypeId = ticketTypeId;
+            this.doc = doc;
+        }
+    }
+}
\ No newline at end of file
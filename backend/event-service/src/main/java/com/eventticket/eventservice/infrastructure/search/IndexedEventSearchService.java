@@ -0,0 +1,61 @@
+package com.eventticket.eventservice.infrastructure.search;
+
+import com.eventticket.common.exception.ApiException;
+import com.eventticket.common.utils.TimeUtils;
+import com.eventticket.eventservice.application.dto.EventResponse;
+import com.eventticket.eventservice.application.dto.EventSearchRequest;
+import com.eventticket.eventservice.application.dto.EventSearchResponse;
+import com.eventticket.eventservice.application.service.EventSearchService;
+import com.eventticket.eventservice.application.service.EventService;
+import com.eventticket.eventservice.domain.model.Event;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Answers searches from the {@link EventSearchIndex} and loads the page of hits through the
+ * (cached) event service, so the database is only read for events not already cached.
+ */
+@Service
+@RequiredArgsConstructor
+public class IndexedEventSearchService implements EventSearchService {
+    
+    private final EventSearchIndex searchIndex;
+    private final EventService eventService;
+    
+    @Override
+    public EventSearchResponse search(EventSearchRequest request) {
+        if (request.getFrom() != null && request.getTo() != null && request.getFrom().isAfter(request.getTo())) {
+            throw ApiException.badRequest("from must not be after to");
+        }
+        if (request.getMinPrice() != null && request.getMaxPrice() != null
+                && request.getMinPrice().compareTo(request.getMaxPrice()) > 0) {
+            throw ApiException.badRequest("minPrice must not exceed maxPrice");
+        }
+        
+        EventSearchIndex.Hits hits = searchIndex.search(new EventSearchIndex.Query(
+                request.getQ(),
+                request.getCategoryId(),
+                request.getVenueId(),
+                request.getOrganizerId(),
+                Event.EventStatus.PUBLISHED,
+                request.getFrom() != null ? TimeUtils.toEpochMillis(request.getFrom()) : null,
+                request.getTo() != null ? TimeUtils.toEpochMillis(request.getTo()) : null,
+                request.getMinPrice() != null ? EventSearchIndex.toMinorUnits(request.getMinPrice()) : null,
+                request.getMaxPrice() != null ? EventSearchIndex.toMinorUnits(request.getMaxPrice()) : null,
+                request.isAvailableOnly(),
+                request.getPage() * request.getSize(),
+                request.getSize()));
+        
+        // Events deleted after the index was read are skipped
+        List<EventResponse> events = eventService.getEventsByIds(hits.eventIds());
+        
+        return EventSearchResponse.builder()
+                .events(events)
+                .totalMatches(hits.total())
+                .page(request.getPage())
+                .size(request.getSize())
+                .build();
+    }
+}
\ No newline at end of file
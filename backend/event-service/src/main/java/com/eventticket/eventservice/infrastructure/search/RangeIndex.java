@@ -0,0 +1,93 @@
+package com.eventticket.eventservice.infrastructure.search;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.roaringbitmap.RoaringBitmapWriter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Numeric range index: documents are grouped into fixed-width buckets of their value, one bitmap
+ * per bucket. A range query ORs the buckets lying wholly inside the range and checks the values of
+ * the documents in the two edge buckets individually. Not thread-safe; {@link EventSearchIndex}
+ * guards it with its lock.
+ */
+final class RangeIndex {
+    
+    private final long bucketWidth;
+    private final NavigableMap<Long, RoaringBitmap> buckets = new TreeMap<>();
+    
+    RangeIndex(long bucketWidth) {
+        this.bucketWidth = bucketWidth;
+    }
+    
+    void add(int doc, long value) {
+        buckets.computeIfAbsent(bucketOf(value), bucket -> new RoaringBitmap()).add(doc);
+    }
+    
+    void remove(int doc, long value) {
+        Long bucket = bucketOf(value);
+        RoaringBitmap docs = buckets.get(bucket);
+        if (docs != null) {
+            docs.remove(doc);
+            if (docs.isEmpty()) {
+                buckets.remove(bucket);
+            }
+        }
+    }
+    
+    /**
+     * The {@code candidates} whose value lies in {@code [min, max]}; {@code values} holds each
+     * document's value.
+     */
+    RoaringBitmap within(RoaringBitmap candidates, long min, long max, long[] values) {
+        long first = bucketOf(min);
+        long last = bucketOf(max);
+        if (first > last) {
+            return new RoaringBitmap();
+        }
+        
+        List<RoaringBitmap> inner = new ArrayList<>();
+        // Edge buckets are visited in ascending document order, which the writer appends cheaply
+        RoaringBitmapWriter<RoaringBitmap> edges = RoaringBitmapWriter.writer().get();
+        for (Map.Entry<Long, RoaringBitmap> entry : buckets.subMap(first, true, last, true).entrySet()) {
+            long bucket = entry.getKey();
+            if (bucket != first && bucket != last) {
+                inner.add(entry.getValue());
+                continue;
+            }
+            RoaringBitmap.and(entry.getValue(), candidates).forEach((int doc) -> {
+                if (values[doc] >= min && values[doc] <= max) {
+                    edges.add(doc);
+                }
+            });
+        }
+        if (inner.isEmpty()) {
+            return edges.get();
+        }
+        RoaringBitmap result = FastAggregation.or(inner.iterator());
+        result.and(candidates);
+        result.or(edges.get());
+        return result;
+    }
+    
+    /**
+     * Buckets in ascending value order, starting with the one holding {@code min}.
+     */
+    Collection<RoaringBitmap> bucketsFrom(long min) {
+        return buckets.tailMap(bucketOf(min), true).values();
+    }
+    
+    void runOptimize() {
+        buckets.values().forEach(RoaringBitmap::runOptimize);
+    }
+    
+    private long bucketOf(long value) {
+        return Math.floorDiv(value, bucketWidth);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.eventticket.notificationservice.application.service;
+
+import com.eventticket.notificationservice.domain.model.Notification;
+
+import java.util.Collection;
+
+public interface NotificationService {
+    
+    void send(Notification notification);
+    
+    /**
+     * Queues a fan-out, e.g. one notification per ticket holder of a cancelled event. Blocks while
+     * the delivery queues are full.
+     */
+    void sendAll(Collection<Notification> notifications);
+    
+    /**
+     * Puts up to {@code max} dead letters back on the delivery queues with a fresh retry budget.
+     */
+    int redriveDeadLetters(int max);
+    
+    int getQueuedCount();
+}
\ No newline at end of file
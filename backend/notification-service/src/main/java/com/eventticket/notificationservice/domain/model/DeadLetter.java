@@ -0,0 +1,9 @@
+package com.eventticket.notificationservice.domain.model;
+
+import java.time.Instant;
+
+/**
+ * A notification that could not be delivered within its retry budget.
+ */
+public record DeadLetter(Notification notification, String reason, Instant failedAt) {
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.eventticket.notificationservice.domain.model;
+
+import lombok.*;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Notification {
+    
+    private UUID notificationId;
+    private NotificationChannel channel;
+    
+    // Email address, phone number or device token, depending on the channel
+    private String recipient;
+    private String templateId;
+    private Locale locale;
+    private Map<String, Object> variables;
+    
+    // Delivery attempts made so far
+    private int attempts;
+}
\ No newline at end of file
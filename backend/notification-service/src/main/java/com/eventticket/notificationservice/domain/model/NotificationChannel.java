@@ -0,0 +1,5 @@
+package com.eventticket.notificationservice.domain.model;
+
+public enum NotificationChannel {
+    EMAIL, SMS, PUSH
+}
\ No newline at end of file
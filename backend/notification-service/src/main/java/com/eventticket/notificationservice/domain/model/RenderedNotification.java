@@ -0,0 +1,7 @@
+package com.eventticket.notificationservice.domain.model;
+
+/**
+ * A notification with its template applied, ready to hand to a channel sender.
+ */
+public record RenderedNotification(Notification notification, String subject, String body) {
+}
\ No newline at end of file
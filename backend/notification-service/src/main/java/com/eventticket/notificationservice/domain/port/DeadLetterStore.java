@@ -0,0 +1,17 @@
+package com.eventticket.notificationservice.domain.port;
+
+import com.eventticket.notificationservice.domain.model.DeadLetter;
+
+import java.util.List;
+
+public interface DeadLetterStore {
+    
+    void add(DeadLetter deadLetter);
+    
+    /**
+     * Removes and returns up to {@code max} of the oldest dead letters, e.g. for re-driving them.
+     */
+    List<DeadLetter> drain(int max);
+    
+    int size();
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.eventticket.notificationservice.domain.port;
+
+import com.eventticket.notificationservice.domain.model.Notification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Durable record of the notifications accepted by this instance and not yet delivered or
+ * dead-lettered, so that the in-memory delivery queues can be rebuilt after a restart.
+ */
+public interface NotificationJournal {
+    
+    void append(Collection<Notification> notifications);
+    
+    void remove(Collection<UUID> notificationIds);
+    
+    /**
+     * Everything still journaled by this instance, oldest first.
+     */
+    List<Notification> findPending();
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.eventticket.notificationservice.domain.port;
+
+import com.eventticket.notificationservice.domain.model.NotificationChannel;
+import com.eventticket.notificationservice.domain.model.RenderedNotification;
+
+import java.util.List;
+
+public interface NotificationSender {
+    
+    NotificationChannel getChannel();
+    
+    /**
+     * Delivers a batch and reports the notifications that failed. Throwing instead means the whole
+     * batch failed and may be retried.
+     */
+    List<SendFailure> send(List<RenderedNotification> batch);
+    
+    record SendFailure(RenderedNotification notification, Exception cause, boolean retryable) {
+    }
+}
\ No newline at end of file
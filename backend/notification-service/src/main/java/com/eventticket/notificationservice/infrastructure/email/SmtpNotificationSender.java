@@ -0,0 +1,92 @@
+package com.eventticket.notificationservice.infrastructure.email;
+
+import com.eventticket.notificationservice.domain.model.NotificationChannel;
+import com.eventticket.notificationservice.domain.model.RenderedNotification;
+import com.eventticket.notificationservice.domain.port.NotificationSender;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends email batches over SMTP. {@link JavaMailSender#send(MimeMessage...)} delivers a whole batch
+ * over one connection, so each fan-out worker keeps at most one SMTP session open at a time and the
+ * connect/auth handshake is paid once per batch rather than once per message.
+ */
+@Component
+@ConditionalOnProperty("spring.mail.host")
+public class SmtpNotificationSender implements NotificationSender {
+    
+    private final JavaMailSender mailSender;
+    private final String from;
+    
+    public SmtpNotificationSender(
+            JavaMailSender mailSender,
+            @Value("${app.notifications.email.from:no-reply@eventticket.com}") String from) {
+        this.mailSender = mailSender;
+        this.from = from;
+    }
+    
+    @Override
+    public NotificationChannel getChannel() {
+        return NotificationChannel.EMAIL;
+    }
+    
+    @Override
+    public List<SendFailure> send(List<RenderedNotification> batch) {
+        List<SendFailure> failures = new ArrayList<>();
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        Map<MimeMessage, RenderedNotification> byMessage = new IdentityHashMap<>(batch.size());
+        for (RenderedNotification notification : batch) {
+            try {
+                MimeMessage message = toMimeMessage(notification);
+                messages.add(message);
+                byMessage.put(message, notification);
+            } catch (MessagingException e) {
+                failures.add(new SendFailure(notification, e, false));
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
+        
+        try {
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                // No per-message detail: let the engine retry the whole batch
+                throw e;
+            }
+            e.getFailedMessages().forEach((message, cause) -> failures.add(
+                    new SendFailure(byMessage.get(message), cause, !isPermanent(cause))));
+        }
+        return failures;
+    }
+    
+    private MimeMessage toMimeMessage(RenderedNotification notification) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setFrom(from);
+        helper.setTo(notification.notification().getRecipient());
+        helper.setSubject(notification.subject());
+        helper.setText(notification.body());
+        return message;
+    }
+    
+    private static boolean isPermanent(Exception cause) {
+        // Rejected recipients will be rejected again; anything else may be transient
+        return cause instanceof SendFailedException sendFailed
+                && sendFailed.getInvalidAddresses() != null
+                && sendFailed.getInvalidAddresses().length > 0;
+    }
+}
\ No newline at end of file
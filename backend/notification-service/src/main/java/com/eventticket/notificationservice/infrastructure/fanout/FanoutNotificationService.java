@@ -0,0 +1,418 @@
+package com.eventticket.notificationservice.infrastructure.fanout;
+
+import com.eventticket.common.exception.ApiException;
+import com.eventticket.notificationservice.application.service.NotificationService;
+import com.eventticket.notificationservice.domain.model.DeadLetter;
+import com.eventticket.notificationservice.domain.model.Notification;
+import com.eventticket.notificationservice.domain.model.NotificationChannel;
+import com.eventticket.notificationservice.domain.model.RenderedNotification;
+import com.eventticket.notificationservice.domain.port.DeadLetterStore;
+import com.eventticket.notificationservice.domain.port.NotificationJournal;
+import com.eventticket.notificationservice.domain.port.NotificationSender;
+import com.eventticket.notificationservice.infrastructure.template.TemplateRenderer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan-out delivery engine.
+ *
+ * <p>Notifications are partitioned by recipient across bounded queues, each drained by one worker
+ * thread in batches. A batch is rendered with cached compiled templates, throttled by its channel's
+ * rate limiter and handed to the channel sender in one call. Retryable failures are re-queued after
+ * an exponential backoff with jitter; the rest, and anything past {@code max-attempts}, goes to the
+ * {@link DeadLetterStore}. Producers block when a partition queue is full.</p>
+ *
+ * <p>Every accepted notification is written to the {@link NotificationJournal} before it is queued
+ * and removed once it is delivered or dead-lettered, and {@link #start()} queues whatever the journal
+ * still holds, so the in-memory queues survive a restart. Delivery is therefore at least once: a
+ * notification sent just before a crash is sent again, with its attempt count reset. Shutdown lets the
+ * workers finish their current batch and then delivers whatever is still queued or waiting out a retry
+ * backoff, for up to {@code shutdown-timeout}; anything left stays journaled for the next start.</p>
+ */
+@Service
+@Slf4j
+public class FanoutNotificationService implements NotificationService {
+    
+    private final TemplateRenderer templateRenderer;
+    private final DeadLetterStore deadLetterStore;
+    private final NotificationJournal journal;
+    private final Map<NotificationChannel, NotificationSender> senders = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, RateLimiter> rateLimiters = new EnumMap<>(NotificationChannel.class);
+    private final List<BlockingQueue<Notification>> partitions;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration shutdownTimeout;
+    
+    // Notifications waiting out a retry backoff, by id, so shutdown can deliver them early
+    private final Map<UUID, Notification> awaitingRetry = new ConcurrentHashMap<>();
+    
+    private final Map<NotificationChannel, Counter> sent = new EnumMap<>(NotificationChannel.class);
+    private final Counter retried;
+    private final Counter deadLettered;
+    private final Timer batchLatency;
+    
+    private final List<Thread> workers = new ArrayList<>();
+    private ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+    
+    public FanoutNotificationService(
+            TemplateRenderer templateRenderer,
+            DeadLetterStore deadLetterStore,
+            NotificationJournal journal,
+            List<NotificationSender> notificationSenders,
+            MeterRegistry meterRegistry,
+            @Value("${app.notifications.partitions:8}") int partitionCount,
+            @Value("${app.notifications.queue-capacity:20000}") int queueCapacity,
+            @Value("${app.notifications.batch-size:50}") int batchSize,
+            @Value("${app.notifications.max-attempts:5}") int maxAttempts,
+            @Value("${app.notifications.retry.initial-backoff:PT2S}") Duration initialBackoff,
+            @Value("${app.notifications.retry.max-backoff:PT5M}") Duration maxBackoff,
+            @Value("${app.notifications.shutdown-timeout:PT30S}") Duration shutdownTimeout,
+            @Value("${app.notifications.rate.email:200}") double emailRate,
+            @Value("${app.notifications.rate.sms:50}") double smsRate,
+            @Value("${app.notifications.rate.push:1000}") double pushRate) {
+        this.templateRenderer = templateRenderer;
+        this.deadLetterStore = deadLetterStore;
+        this.journal = journal;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.shutdownTimeout = shutdownTimeout;
+        
+        notificationSenders.forEach(sender -> senders.put(sender.getChannel(), sender));
+        rateLimiters.put(NotificationChannel.EMAIL, new RateLimiter(emailRate, batchSize));
+        rateLimiters.put(NotificationChannel.SMS, new RateLimiter(smsRate, batchSize));
+        rateLimiters.put(NotificationChannel.PUSH, new RateLimiter(pushRate, batchSize));
+        
+        this.partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ArrayBlockingQueue<>(queueCapacity));
+        }
+        
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            sent.put(channel, Counter.builder("notifications.sent").tag("channel", channel.name()).register(meterRegistry));
+        }
+        this.retried = Counter.builder("notifications.retried").register(meterRegistry);
+        this.deadLettered = Counter.builder("notifications.dead_lettered").register(meterRegistry);
+        this.batchLatency = Timer.builder("notifications.batch.latency")
+                .description("Time to deliver one batch to a channel sender")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("notifications.queued", this, FanoutNotificationService::getQueuedCount)
+                .register(meterRegistry);
+        Gauge.builder("notifications.dead_letters", deadLetterStore, DeadLetterStore::size)
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < partitions.size(); i++) {
+            BlockingQueue<Notification> queue = partitions.get(i);
+            Thread worker = new Thread(() -> drain(queue), "notification-fanout-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Notification fan-out started with {} partitions, batch size {} and channels {}",
+                partitions.size(), batchSize, senders.keySet());
+        
+        // Workers are already draining, so a journal larger than the queues does not block forever
+        List<Notification> pending = journal.findPending();
+        for (Notification notification : pending) {
+            enqueue(notification);
+        }
+        if (!pending.isEmpty()) {
+            log.info("Re-queued {} notifications left undelivered by the previous run", pending.size());
+        }
+    }
+    
+    @PreDestroy
+    public void stop() {
+        running = false;
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        retryScheduler.shutdownNow();
+        try {
+            retryScheduler.awaitTermination(1, TimeUnit.SECONDS);
+            // Workers stop polling once running is cleared; give them time to finish their batch
+            for (Thread worker : workers) {
+                worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            }
+            // A worker still waiting on its rate limiter puts its unsent notifications back and exits
+            for (Thread worker : workers) {
+                worker.interrupt();
+                worker.join(1000);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        List<Notification> remaining = new ArrayList<>(awaitingRetry.values());
+        awaitingRetry.clear();
+        partitions.forEach(partition -> partition.drainTo(remaining));
+        int next = 0;
+        while (next < remaining.size() && System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            List<Notification> batch = remaining.subList(next, Math.min(next + batchSize, remaining.size()));
+            next += batch.size();
+            deliver(new ArrayList<>(batch));
+        }
+        
+        int undelivered = remaining.size() - next + getQueuedCount();
+        if (undelivered > 0) {
+            log.warn("Notification fan-out stopped with {} notifications undelivered, kept in the journal for the next start",
+                    undelivered);
+        } else {
+            log.info("Notification fan-out stopped, all queued notifications delivered");
+        }
+    }
+    
+    @Override
+    public void send(Notification notification) {
+        sendAll(List.of(notification));
+    }
+    
+    @Override
+    public void sendAll(Collection<Notification> notifications) {
+        if (!running) {
+            throw new ApiException("Notification service is shutting down",
+                    HttpStatus.SERVICE_UNAVAILABLE, "NOTIFICATIONS_SHUTTING_DOWN");
+        }
+        for (Notification notification : notifications) {
+            if (!senders.containsKey(notification.getChannel())) {
+                throw ApiException.badRequest("No sender configured for channel: " + notification.getChannel());
+            }
+            if (notification.getNotificationId() == null) {
+                notification.setNotificationId(UUID.randomUUID());
+            }
+        }
+        journal.append(notifications);
+        for (Notification notification : notifications) {
+            enqueue(notification);
+        }
+    }
+    
+    @Override
+    public int redriveDeadLetters(int max) {
+        List<DeadLetter> deadLetters = deadLetterStore.drain(max);
+        List<Notification> notifications = new ArrayList<>(deadLetters.size());
+        for (DeadLetter deadLetter : deadLetters) {
+            deadLetter.notification().setAttempts(0);
+            notifications.add(deadLetter.notification());
+        }
+        try {
+            sendAll(notifications);
+        } catch (RuntimeException e) {
+            // Not journaled, so nothing would ever deliver them; put them back where they came from
+            deadLetters.forEach(deadLetterStore::add);
+            throw e;
+        }
+        return deadLetters.size();
+    }
+    
+    @Override
+    public int getQueuedCount() {
+        int queued = 0;
+        for (BlockingQueue<Notification> partition : partitions) {
+            queued += partition.size();
+        }
+        return queued;
+    }
+    
+    private void enqueue(Notification notification) {
+        try {
+            partitionOf(notification).put(notification);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // Already journaled, so the next start delivers it
+            throw ApiException.internalServerError("Interrupted while queueing notification");
+        }
+    }
+    
+    private BlockingQueue<Notification> partitionOf(Notification notification) {
+        return partitions.get(Math.floorMod(notification.getRecipient().hashCode(), partitions.size()));
+    }
+    
+    private void drain(BlockingQueue<Notification> queue) {
+        List<Notification> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Notification first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    private void deliver(List<Notification> batch) {
+        try {
+            dispatch(batch);
+        } catch (RuntimeException e) {
+            log.error("Notification batch of {} failed unexpectedly", batch.size(), e);
+            batch.forEach(notification -> fail(notification, e, true));
+        }
+    }
+    
+    private void dispatch(List<Notification> batch) {
+        Map<NotificationChannel, List<RenderedNotification>> byChannel = new EnumMap<>(NotificationChannel.class);
+        for (Notification notification : batch) {
+            notification.setAttempts(notification.getAttempts() + 1);
+            try {
+                byChannel.computeIfAbsent(notification.getChannel(), channel -> new ArrayList<>())
+                        .add(templateRenderer.render(notification));
+            } catch (RuntimeException e) {
+                fail(notification, e, false);
+            }
+        }
+        
+        Iterator<Map.Entry<NotificationChannel, List<RenderedNotification>>> channels = byChannel.entrySet().iterator();
+        while (channels.hasNext()) {
+            Map.Entry<NotificationChannel, List<RenderedNotification>> entry = channels.next();
+            List<RenderedNotification> rendered = entry.getValue();
+            try {
+                rateLimiters.get(entry.getKey()).acquire(rendered.size());
+            } catch (InterruptedException e) {
+                // Nothing from here on reached a sender; hand it back instead of dropping it
+                List<Notification> unsent = new ArrayList<>();
+                rendered.forEach(notification -> unsent.add(notification.notification()));
+                channels.forEachRemaining(rest -> rest.getValue().forEach(notification -> unsent.add(notification.notification())));
+                log.warn("Interrupted while throttling {} notifications, returning {} unsent to the queue",
+                        entry.getKey(), unsent.size());
+                unsent.forEach(this::putBack);
+                Thread.currentThread().interrupt();
+                return;
+            }
+            
+            List<NotificationSender.SendFailure> failures;
+            long start = System.nanoTime();
+            try {
+                failures = senders.get(entry.getKey()).send(rendered);
+            } catch (RuntimeException e) {
+                log.warn("Sending {} {} notifications failed", rendered.size(), entry.getKey(), e);
+                rendered.forEach(notification -> fail(notification.notification(), e, true));
+                continue;
+            } finally {
+                batchLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            
+            sent.get(entry.getKey()).increment(rendered.size() - failures.size());
+            List<UUID> delivered = new ArrayList<>(rendered.size());
+            rendered.forEach(notification -> delivered.add(notification.notification().getNotificationId()));
+            failures.forEach(failure -> delivered.remove(failure.notification().notification().getNotificationId()));
+            forget(delivered);
+            failures.forEach(failure -> fail(failure.notification().notification(), failure.cause(), failure.retryable()));
+        }
+    }
+    
+    private void forget(List<UUID> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+        try {
+            journal.remove(notificationIds);
+        } catch (RuntimeException e) {
+            // Must not fail the batch, which was already handed to the sender; they are re-sent on the next start
+            log.error("Could not remove {} finished notifications from the journal", notificationIds.size(), e);
+        }
+    }
+    
+    private void fail(Notification notification, Exception cause, boolean retryable) {
+        if (retryable && notification.getAttempts() < maxAttempts && running) {
+            retried.increment();
+            awaitingRetry.put(notification.getNotificationId(), notification);
+            scheduleRequeue(notification, backoff(notification.getAttempts()));
+            return;
+        }
+        deadLetter(notification, cause);
+    }
+    
+    private void deadLetter(Notification notification, Exception cause) {
+        log.warn("Dead-lettering notification {} to {} after {} attempts: {}", notification.getNotificationId(),
+                notification.getRecipient(), notification.getAttempts(), cause.getMessage());
+        deadLettered.increment();
+        try {
+            deadLetterStore.add(new DeadLetter(notification, String.valueOf(cause.getMessage()), Instant.now()));
+        } catch (RuntimeException e) {
+            // Still journaled, so the next start retries it rather than losing it
+            log.error("Could not store dead letter for notification {}", notification.getNotificationId(), e);
+            return;
+        }
+        forget(List.of(notification.getNotificationId()));
+    }
+    
+    private void scheduleRequeue(Notification notification, long delayMillis) {
+        try {
+            retryScheduler.schedule(() -> requeue(notification), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; stop() delivers everything still awaiting a retry
+        }
+    }
+    
+    private void requeue(Notification notification) {
+        if (awaitingRetry.remove(notification.getNotificationId()) == null) {
+            return;
+        }
+        // Never block the retry thread on a full partition; try again a little later
+        if (!partitionOf(notification).offer(notification)) {
+            awaitingRetry.put(notification.getNotificationId(), notification);
+            scheduleRequeue(notification, initialBackoff.toMillis());
+        }
+    }
+    
+    private void putBack(Notification notification) {
+        // The attempt never reached a sender, so it does not count
+        notification.setAttempts(notification.getAttempts() - 1);
+        if (!partitionOf(notification).offer(notification)) {
+            deadLetter(notification, new IllegalStateException("Partition queue full while returning an interrupted batch"));
+        }
+    }
+    
+    private long backoff(int attempts) {
+        long exponential = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, maxBackoff.toMillis());
+        // Full jitter spreads the retries of a failed batch instead of replaying it in lockstep
+        return ThreadLocalRandom.current().nextLong(capped / 2, capped + 1);
+    }
+}
\ No newline at end of file
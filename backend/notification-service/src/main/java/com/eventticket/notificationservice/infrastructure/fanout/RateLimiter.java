@@ -0,0 +1,44 @@
+package com.eventticket.notificationservice.infrastructure.fanout;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Smooth token-bucket limiter. A caller reserves all permits for a batch at once and then sleeps
+ * outside the lock until its reservation comes due, so waiting batches do not block each other.
+ */
+final class RateLimiter {
+    
+    private final long nanosPerPermit;
+    private final long burstNanos;
+    private long nextFreeNanos;
+    
+    RateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be positive");
+        }
+        this.nanosPerPermit = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstNanos = nanosPerPermit * burst;
+        this.nextFreeNanos = System.nanoTime();
+    }
+    
+    void acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        long deadline = System.nanoTime() + waitNanos;
+        while (waitNanos > 0) {
+            LockSupport.parkNanos(this, waitNanos);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitNanos = deadline - System.nanoTime();
+        }
+    }
+    
+    private synchronized long reserve(int permits) {
+        long now = System.nanoTime();
+        // Unused capacity accumulates up to the burst size
+        long start = Math.max(nextFreeNanos, now - burstNanos);
+        nextFreeNanos = start + permits * nanosPerPermit;
+        return nextFreeNanos - now;
+    }
+}
\ No newline at end of file
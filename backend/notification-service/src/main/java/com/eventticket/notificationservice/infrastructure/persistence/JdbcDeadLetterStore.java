@@ -0,0 +1,65 @@
+package com.eventticket.notificationservice.infrastructure.persistence;
+
+import com.eventticket.notificationservice.domain.model.DeadLetter;
+import com.eventticket.notificationservice.domain.port.DeadLetterStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Dead letters in the {@code notification_dead_letters} table, kept until they are drained. The
+ * table is shared by all instances; a drain deletes and returns rows in one statement, so two
+ * instances never re-drive the same dead letter.
+ */
+@Repository
+public class JdbcDeadLetterStore implements DeadLetterStore {
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationRows rows;
+    
+    public JdbcDeadLetterStore(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rows = new NotificationRows(objectMapper);
+    }
+    
+    @Override
+    public void add(DeadLetter deadLetter) {
+        jdbcTemplate.update(
+                "INSERT INTO notification_dead_letters (" + NotificationRows.COLUMNS + ", reason, failed_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                ps -> {
+                    rows.bind(ps, 1, deadLetter.notification());
+                    ps.setString(NotificationRows.COLUMN_COUNT + 1, deadLetter.reason());
+                    ps.setTimestamp(NotificationRows.COLUMN_COUNT + 2, Timestamp.from(deadLetter.failedAt()));
+                });
+    }
+    
+    @Override
+    public List<DeadLetter> drain(int max) {
+        List<Drained> drained = jdbcTemplate.query(
+                "WITH oldest AS (SELECT TOP (?) * FROM notification_dead_letters ORDER BY id) "
+                        + "DELETE FROM oldest OUTPUT deleted.id, deleted.notification_id, deleted.channel, deleted.recipient, "
+                        + "deleted.template_id, deleted.locale, deleted.variables, deleted.attempts, deleted.reason, deleted.failed_at",
+                (rs, rowNum) -> new Drained(rs.getLong("id"),
+                        new DeadLetter(rows.read(rs), rs.getString("reason"), rs.getTimestamp("failed_at").toInstant())),
+                max);
+        // OUTPUT rows come back in no particular order
+        return drained.stream()
+                .sorted(Comparator.comparingLong(Drained::id))
+                .map(Drained::deadLetter)
+                .toList();
+    }
+    
+    @Override
+    public int size() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification_dead_letters", Integer.class);
+        return count != null ? count : 0;
+    }
+    
+    private record Drained(long id, DeadLetter deadLetter) {
+    }
+}
\ No newline at end of file
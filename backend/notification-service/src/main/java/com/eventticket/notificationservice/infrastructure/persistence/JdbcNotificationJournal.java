@@ -0,0 +1,60 @@
+package com.eventticket.notificationservice.infrastructure.persistence;
+
+import com.eventticket.notificationservice.domain.model.Notification;
+import com.eventticket.notificationservice.domain.port.NotificationJournal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Journal in the {@code notification_journal} table. Rows are tagged with
+ * {@code app.notifications.instance-id}, so with several instances each needs a stable ID of its
+ * own and only rebuilds its own queues.
+ */
+@Repository
+public class JdbcNotificationJournal implements NotificationJournal {
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationRows rows;
+    private final String instanceId;
+    
+    public JdbcNotificationJournal(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            @Value("${app.notifications.instance-id:${HOSTNAME:local}}") String instanceId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rows = new NotificationRows(objectMapper);
+        this.instanceId = instanceId;
+    }
+    
+    @Override
+    public void append(Collection<Notification> notifications) {
+        List<Notification> batch = new ArrayList<>(notifications);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO notification_journal (instance_id, " + NotificationRows.COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                batch, batch.size(), (ps, notification) -> {
+                    ps.setString(1, instanceId);
+                    rows.bind(ps, 2, notification);
+                });
+    }
+    
+    @Override
+    public void remove(Collection<UUID> notificationIds) {
+        List<UUID> ids = new ArrayList<>(notificationIds);
+        jdbcTemplate.batchUpdate("DELETE FROM notification_journal WHERE notification_id = ?", ids, ids.size(),
+                (ps, id) -> ps.setString(1, id.toString()));
+    }
+    
+    @Override
+    public List<Notification> findPending() {
+        return jdbcTemplate.query(
+                "SELECT " + NotificationRows.COLUMNS + " FROM notification_journal WHERE instance_id = ? ORDER BY id",
+                (rs, rowNum) -> rows.read(rs), instanceId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.eventticket.notificationservice.infrastructure.persistence;
+
+import com.eventticket.notificationservice.domain.model.Notification;
+import com.eventticket.notificationservice.domain.model.NotificationChannel;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Column mapping shared by the notification journal and the dead-letter table, which store a
+ * notification the same way: notification_id, channel, recipient, template_id, locale, variables
+ * as JSON and attempts.
+ */
+final class NotificationRows {
+    
+    static final String COLUMNS = "notification_id, channel, recipient, template_id, locale, variables, attempts";
+    static final int COLUMN_COUNT = 7;
+    
+    private static final TypeReference<Map<String, Object>> VARIABLES = new TypeReference<>() {
+    };
+    
+    private final ObjectMapper objectMapper;
+    
+    NotificationRows(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * Binds the notification to parameters {@code first} to {@code first + COLUMN_COUNT - 1}.
+     */
+    void bind(PreparedStatement ps, int first, Notification notification) throws SQLException {
+        ps.setString(first, notification.getNotificationId().toString());
+        ps.setString(first + 1, notification.getChannel().name());
+        ps.setString(first + 2, notification.getRecipient());
+        ps.setString(first + 3, notification.getTemplateId());
+        ps.setString(first + 4, notification.getLocale() != null ? notification.getLocale().toLanguageTag() : null);
+        ps.setString(first + 5, toJson(notification.getVariables()));
+        ps.setInt(first + 6, notification.getAttempts());
+    }
+    
+    Notification read(ResultSet rs) throws SQLException {
+        String locale = rs.getString("locale");
+        return Notification.builder()
+                .notificationId(UUID.fromString(rs.getString("notification_id")))
+                .channel(NotificationChannel.valueOf(rs.getString("channel")))
+                .recipient(rs.getString("recipient"))
+                .templateId(rs.getString("template_id"))
+                .locale(locale != null ? Locale.forLanguageTag(locale) : null)
+                .variables(fromJson(rs.getString("variables")))
+                .attempts(rs.getInt("attempts"))
+                .build();
+    }
+    
+    private String toJson(Map<String, Object> variables) {
+        try {
+            return variables != null ? objectMapper.writeValueAsString(variables) : null;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Notification variables are not serializable", e);
+        }
+    }
+    
+    private Map<String, Object> fromJson(String json) {
+        try {
+            return json != null ? objectMapper.readValue(json, VARIABLES) : null;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt notification variables: " + json, e);
+        }
+    }
+}
\ No newline at end of file
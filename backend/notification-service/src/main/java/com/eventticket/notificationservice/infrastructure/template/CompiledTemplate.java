@@ -0,0 +1,56 @@
+package com.eventticket.notificationservice.infrastructure.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template split once into literal text and {@code {{name}}} placeholders, so rendering is a
+ * single pass over pre-cut segments.
+ */
+final class CompiledTemplate {
+    
+    private final String[] literals;
+    private final String[] names;
+    private final int literalLength;
+    
+    private CompiledTemplate(String[] literals, String[] names) {
+        this.literals = literals;
+        this.names = names;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+    
+    static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = source.indexOf("{{", position)) >= 0) {
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                break;
+            }
+            literals.add(source.substring(position, open));
+            names.add(source.substring(open + 2, close).trim());
+            position = close + 2;
+        }
+        literals.add(source.substring(position));
+        return new CompiledTemplate(literals.toArray(String[]::new), names.toArray(String[]::new));
+    }
+    
+    String render(Map<String, Object> variables) {
+        StringBuilder out = new StringBuilder(literalLength + names.length * 16);
+        for (int i = 0; i < names.length; i++) {
+            out.append(literals[i]);
+            Object value = variables == null ? null : variables.get(names[i]);
+            if (value != null) {
+                out.append(value);
+            }
+        }
+        return out.append(literals[names.length]).toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.eventticket.notificationservice.infrastructure.template;
+
+import com.eventticket.notificationservice.domain.model.Notification;
+import com.eventticket.notificationservice.domain.model.RenderedNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders notification templates. A template file holds the subject on its first line and the body
+ * after it; files are looked up as {@code <id>_<language tag>.txt}, then {@code <id>_<language>.txt},
+ * then {@code <id>.txt}. Each (template, locale) pair is loaded and compiled once.
+ */
+@Component
+public class TemplateRenderer {
+    
+    private final ResourceLoader resourceLoader;
+    private final String location;
+    private final Locale defaultLocale;
+    private final Map<TemplateKey, Template> templates = new ConcurrentHashMap<>();
+    
+    public TemplateRenderer(
+            ResourceLoader resourceLoader,
+            @Value("${app.notifications.templates.location:classpath:templates/notifications/}") String location,
+            @Value("${app.notifications.templates.default-locale:en}") Locale defaultLocale) {
+        this.resourceLoader = resourceLoader;
+        this.location = location;
+        this.defaultLocale = defaultLocale;
+    }
+    
+    public RenderedNotification render(Notification notification) {
+        Locale locale = notification.getLocale() != null ? notification.getLocale() : defaultLocale;
+        Template template = templates.computeIfAbsent(new TemplateKey(notification.getTemplateId(), locale), this::load);
+        return new RenderedNotification(notification,
+                template.subject().render(notification.getVariables()),
+                template.body().render(notification.getVariables()));
+    }
+    
+    private Template load(TemplateKey key) {
+        String[] candidates = {
+                key.templateId() + "_" + key.locale().toLanguageTag() + ".txt",
+                key.templateId() + "_" + key.locale().getLanguage() + ".txt",
+                key.templateId() + ".txt"
+        };
+        for (String candidate : candidates) {
+            Resource resource = resourceLoader.getResource(location + candidate);
+            if (resource.exists()) {
+                return parse(read(resource));
+            }
+        }
+        throw new IllegalArgumentException("Unknown notification template: " + key.templateId() + " (" + key.locale() + ")");
+    }
+    
+    private static Template parse(String source) {
+        int newline = source.indexOf('\n');
+        String subject = newline < 0 ? source : source.substring(0, newline);
+        String body = newline < 0 ? "" : source.substring(newline + 1);
+        return new Template(CompiledTemplate.compile(subject.strip()), CompiledTemplate.compile(body.strip()));
+    }
+    
+    private static String read(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).replace("\r\n", "\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read notification template " + resource, e);
+        }
+    }
+    
+    private record TemplateKey(String templateId, Locale locale) {
+    }
+    
+    private record Template(CompiledTemplate subject, CompiledTemplate body) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+IF OBJECT_ID('notification_journal', 'U') IS NULL
+BEGIN
+    CREATE TABLE notification_journal (
+        id BIGINT IDENTITY(1,1) PRIMARY KEY,
+        instance_id NVARCHAR(100) NOT NULL,
+        notification_id CHAR(36) NOT NULL,
+        channel NVARCHAR(20) NOT NULL,
+        recipient NVARCHAR(320) NOT NULL,
+        template_id NVARCHAR(100) NOT NULL,
+        locale NVARCHAR(35) NULL,
+        variables NVARCHAR(MAX) NULL,
+        attempts INT NOT NULL
+    );
+    CREATE INDEX ix_notification_journal_instance ON notification_journal (instance_id, id);
+    CREATE UNIQUE INDEX ix_notification_journal_notification ON notification_journal (notification_id);
+END
+GO
+
+IF OBJECT_ID('notification_dead_letters', 'U') IS NULL
+BEGIN
+    CREATE TABLE notification_dead_letters (
+        id BIGINT IDENTITY(1,1) PRIMARY KEY,
+        notification_id CHAR(36) NOT NULL,
+        channel NVARCHAR(20) NOT NULL,
+        recipient NVARCHAR(320) NOT NULL,
+        template_id NVARCHAR(100) NOT NULL,
+        locale NVARCHAR(35) NULL,
+        variables NVARCHAR(MAX) NULL,
+        attempts INT NOT NULL,
+        reason NVARCHAR(MAX) NULL,
+        failed_at DATETIME2 NOT NULL
+    );
+END
\ No newline at end of file
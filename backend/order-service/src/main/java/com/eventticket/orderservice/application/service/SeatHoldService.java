@@ -0,0 +1,22 @@
+package com.eventticket.orderservice.application.service;
+
+import com.eventticket.orderservice.domain.model.SeatHold;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SeatHoldService {
+    
+    SeatHold placeHold(UUID userId, UUID ticketTypeId, int quantity);
+    
+    SeatHold placeHold(UUID userId, UUID ticketTypeId, int quantity, Duration ttl);
+    
+    Optional<SeatHold> getHold(UUID holdId);
+    
+    void confirmHold(UUID holdId);
+    
+    void releaseHold(UUID holdId);
+    
+    int getOpenHoldCount();
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.eventticket.orderservice.domain.model;
+
+import lombok.Getter;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+@Getter
+public class SeatHold {
+    
+    private static final AtomicReferenceFieldUpdater<SeatHold, HoldStatus> STATUS =
+            AtomicReferenceFieldUpdater.newUpdater(SeatHold.class, HoldStatus.class, "status");
+    
+    private final UUID holdId;
+    private final UUID userId;
+    private final UUID ticketTypeId;
+    private final int quantity;
+    private final long expiresAtMillis;
+    private volatile HoldStatus status = HoldStatus.ACTIVE;
+    
+    public SeatHold(UUID holdId, UUID userId, UUID ticketTypeId, int quantity, long expiresAtMillis) {
+        this.holdId = holdId;
+        this.userId = userId;
+        this.ticketTypeId = ticketTypeId;
+        this.quantity = quantity;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+    
+    public boolean isActive() {
+        return status == HoldStatus.ACTIVE;
+    }
+    
+    public boolean confirm() {
+        return STATUS.compareAndSet(this, HoldStatus.ACTIVE, HoldStatus.CONFIRMED);
+    }
+    
+    public boolean release() {
+        return STATUS.compareAndSet(this, HoldStatus.ACTIVE, HoldStatus.RELEASED);
+    }
+    
+    public boolean expire() {
+        return STATUS.compareAndSet(this, HoldStatus.ACTIVE, HoldStatus.EXPIRED);
+    }
+    
+    public enum HoldStatus {
+        ACTIVE, CONFIRMED, RELEASED, EXPIRED
+    }
+}
\ No newline at end of file
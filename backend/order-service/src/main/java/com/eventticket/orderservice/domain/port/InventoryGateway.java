@@ -0,0 +1,11 @@
+package com.eventticket.orderservice.domain.port;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface InventoryGateway {
+    
+    boolean tryReserve(UUID ticketTypeId, int quantity);
+    
+    void releaseAll(Map<UUID, Integer> quantitiesByTicketType);
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.eventticket.orderservice.domain.port;
+
+import com.eventticket.orderservice.domain.model.SeatHold;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Active holds with their deadlines. A row exists exactly while its hold reserves inventory, so
+ * deleting it is what closes the hold: only the caller whose delete removed the row may act on
+ * inventory, whichever instance or restart it runs in.
+ */
+public interface SeatHoldRepository {
+    
+    void save(SeatHold hold);
+    
+    /**
+     * @return false if the row was already gone, i.e. the hold was closed elsewhere
+     */
+    boolean delete(UUID holdId);
+    
+    /**
+     * @return the IDs whose rows this call removed
+     */
+    Set<UUID> deleteAll(Collection<UUID> holdIds);
+    
+    List<SeatHold> findAll();
+}
\ No newline at end of file
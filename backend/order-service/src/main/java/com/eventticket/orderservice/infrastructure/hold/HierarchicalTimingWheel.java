@@ -0,0 +1,103 @@
+package com.eventticket.orderservice.infrastructure.hold;
+
+import java.util.function.Consumer;
+
+/**
+ * Hashed hierarchical timing wheel. Each level has 256 slots; a slot on level {@code n} covers
+ * {@code 256^n} ticks. Scheduling is O(1) (prepend to a slot list) and each tick touches one
+ * level-0 slot plus, on wrap-around, one slot per higher level whose entries are cascaded down.
+ *
+ * <p>Not thread-safe: all calls must come from the single thread that drives {@link #advanceTo}.</p>
+ */
+class HierarchicalTimingWheel<T> {
+    
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    
+    private final long tickMillis;
+    private final long startMillis;
+    private final int levels;
+    private final Node<T>[][] slots;
+    private long currentTick;
+    private int size;
+    
+    @SuppressWarnings("unchecked")
+    HierarchicalTimingWheel(long tickMillis, int levels, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.levels = levels;
+        this.startMillis = startMillis;
+        this.slots = new Node[levels][WHEEL_SIZE];
+    }
+    
+    void schedule(T value, long deadlineMillis) {
+        long deadlineTick = Math.floorDiv(deadlineMillis - startMillis + tickMillis - 1, tickMillis);
+        // The current tick's slot has already been expired, so anything already due fires on the next one
+        place(new Node<>(value, deadlineTick), currentTick + 1);
+        size++;
+    }
+    
+    /**
+     * Advances the wheel up to {@code nowMillis}, handing every entry whose deadline has passed to {@code expired}.
+     */
+    void advanceTo(long nowMillis, Consumer<T> expired) {
+        long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = levels - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+                    cascade(level);
+                }
+            }
+            
+            int slot = (int) (currentTick & WHEEL_MASK);
+            Node<T> node = slots[0][slot];
+            slots[0][slot] = null;
+            while (node != null) {
+                Node<T> next = node.next;
+                size--;
+                expired.accept(node.value);
+                node = next;
+            }
+        }
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    private void cascade(int level) {
+        int slot = (int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        Node<T> node = slots[level][slot];
+        slots[level][slot] = null;
+        while (node != null) {
+            Node<T> next = node.next;
+            // Cascading runs before the current tick's slot is expired, so entries due now still fire on time
+            place(node, currentTick);
+            node = next;
+        }
+    }
+    
+    private void place(Node<T> node, long earliestTick) {
+        long deadline = Math.max(node.deadlineTick, earliestTick);
+        int level = 0;
+        while (level < levels - 1
+                && (deadline >>> (WHEEL_BITS * (level + 1))) != (currentTick >>> (WHEEL_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((deadline >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        node.next = slots[level][slot];
+        slots[level][slot] = node;
+    }
+    
+    private static final class Node<T> {
+        private final T value;
+        private final long deadlineTick;
+        private Node<T> next;
+        
+        private Node(T value, long deadlineTick) {
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
\ No newline at end of file
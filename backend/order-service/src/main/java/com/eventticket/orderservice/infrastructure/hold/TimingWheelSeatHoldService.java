@@ -0,0 +1,206 @@
+package com.eventticket.orderservice.infrastructure.hold;
+
+import com.eventticket.common.exception.ApiException;
+import com.eventticket.orderservice.application.service.SeatHoldService;
+import com.eventticket.orderservice.domain.model.SeatHold;
+import com.eventticket.orderservice.domain.port.InventoryGateway;
+import com.eventticket.orderservice.domain.port.SeatHoldRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds reserved inventory for a buyer until payment completes or the TTL runs out.
+ *
+ * <p>New holds are handed to a single timer thread through a lock-free queue and scheduled on a
+ * {@link HierarchicalTimingWheel}, so there is no per-hold {@code ScheduledFuture}. Confirming or
+ * releasing a hold only flips its status; the wheel drops inactive holds when their slot fires.
+ * All holds expiring on the same tick are returned to inventory in one bulk call.</p>
+ *
+ * <p>Every hold is stored with its deadline and reloaded onto the wheel at startup, so expiry
+ * survives a restart. Confirming, releasing and expiring delete the hold's row, and only the call
+ * that removed it touches inventory; a hold also loaded by another instance is therefore released
+ * once, and a failure between the delete and the inventory call leaves seats reserved rather than
+ * oversold.</p>
+ */
+@Service
+@Slf4j
+public class TimingWheelSeatHoldService implements SeatHoldService {
+    
+    private final InventoryGateway inventoryGateway;
+    private final SeatHoldRepository seatHoldRepository;
+    private final Duration defaultTtl;
+    private final long tickMillis;
+    private final Map<UUID, SeatHold> openHolds = new ConcurrentHashMap<>();
+    private final Queue<SeatHold> pendingSchedule = new ConcurrentLinkedQueue<>();
+    private final Timer expiryLatency;
+    
+    // Expired holds whose rows are not deleted yet and quantities not yet returned to inventory;
+    // only touched by the ticker thread
+    private final List<SeatHold> pendingExpiry = new ArrayList<>();
+    private final Map<UUID, Integer> pendingRelease = new HashMap<>();
+    
+    private HierarchicalTimingWheel<SeatHold> wheel;
+    private ScheduledExecutorService ticker;
+    
+    public TimingWheelSeatHoldService(
+            InventoryGateway inventoryGateway,
+            SeatHoldRepository seatHoldRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.holds.default-ttl:PT10M}") Duration defaultTtl,
+            @Value("${app.holds.tick-ms:100}") long tickMillis) {
+        this.inventoryGateway = inventoryGateway;
+        this.seatHoldRepository = seatHoldRepository;
+        this.defaultTtl = defaultTtl;
+        this.tickMillis = tickMillis;
+        this.expiryLatency = Timer.builder("seat.holds.expiry.latency")
+                .description("Delay between a hold's deadline and its release back to inventory")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("seat.holds.open", openHolds, Map::size)
+                .description("Holds currently reserving inventory")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void start() {
+        wheel = new HierarchicalTimingWheel<>(tickMillis, 4, System.currentTimeMillis());
+        // Holds past their deadline while the service was down expire on the first tick
+        List<SeatHold> stored = seatHoldRepository.findAll();
+        for (SeatHold hold : stored) {
+            openHolds.put(hold.getHoldId(), hold);
+            pendingSchedule.offer(hold);
+        }
+        log.info("Reloaded {} open seat holds", stored.size());
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seat-hold-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("Seat hold timing wheel started with tick of {} ms and default TTL {}", tickMillis, defaultTtl);
+    }
+    
+    // Lets a running tick finish its inventory call; holds left open are reloaded on the next start
+    @PreDestroy
+    public void stop() {
+        ticker.shutdown();
+        try {
+            if (!ticker.awaitTermination(tickMillis * 10, TimeUnit.MILLISECONDS)) {
+                log.warn("Seat hold expiry tick did not finish within {} ms", tickMillis * 10);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Override
+    public SeatHold placeHold(UUID userId, UUID ticketTypeId, int quantity) {
+        return placeHold(userId, ticketTypeId, quantity, defaultTtl);
+    }
+    
+    @Override
+    public SeatHold placeHold(UUID userId, UUID ticketTypeId, int quantity, Duration ttl) {
+        if (!inventoryGateway.tryReserve(ticketTypeId, quantity)) {
+            throw ApiException.conflict("Not enough tickets available for ticket type: " + ticketTypeId);
+        }
+        
+        SeatHold hold = new SeatHold(UUID.randomUUID(), userId, ticketTypeId, quantity,
+                System.currentTimeMillis() + ttl.toMillis());
+        try {
+            seatHoldRepository.save(hold);
+        } catch (RuntimeException e) {
+            inventoryGateway.releaseAll(Map.of(ticketTypeId, quantity));
+            throw e;
+        }
+        openHolds.put(hold.getHoldId(), hold);
+        pendingSchedule.offer(hold);
+        return hold;
+    }
+    
+    @Override
+    public Optional<SeatHold> getHold(UUID holdId) {
+        return Optional.ofNullable(openHolds.get(holdId));
+    }
+    
+    @Override
+    public void confirmHold(UUID holdId) {
+        SeatHold hold = openHolds.remove(holdId);
+        // A missing row means another instance expired the hold after a restart and released its seats
+        if (hold == null || !hold.confirm() || !seatHoldRepository.delete(holdId)) {
+            throw ApiException.conflict("Hold " + holdId + " has expired or was already released");
+        }
+    }
+    
+    @Override
+    public void releaseHold(UUID holdId) {
+        SeatHold hold = openHolds.remove(holdId);
+        if (hold != null && hold.release() && seatHoldRepository.delete(holdId)) {
+            inventoryGateway.releaseAll(Map.of(hold.getTicketTypeId(), hold.getQuantity()));
+        }
+    }
+    
+    @Override
+    public int getOpenHoldCount() {
+        return openHolds.size();
+    }
+    
+    private void tick() {
+        try {
+            SeatHold hold;
+            while ((hold = pendingSchedule.poll()) != null) {
+                wheel.schedule(hold, hold.getExpiresAtMillis());
+            }
+            
+            long now = System.currentTimeMillis();
+            wheel.advanceTo(now, expired -> {
+                if (expired.expire()) {
+                    openHolds.remove(expired.getHoldId());
+                    pendingExpiry.add(expired);
+                    expiryLatency.record(Math.max(0, now - expired.getExpiresAtMillis()), TimeUnit.MILLISECONDS);
+                }
+            });
+            
+            if (!pendingExpiry.isEmpty()) {
+                List<UUID> holdIds = new ArrayList<>(pendingExpiry.size());
+                pendingExpiry.forEach(expired -> holdIds.add(expired.getHoldId()));
+                Set<UUID> deleted = seatHoldRepository.deleteAll(holdIds);
+                for (SeatHold expired : pendingExpiry) {
+                    if (deleted.contains(expired.getHoldId())) {
+                        pendingRelease.merge(expired.getTicketTypeId(), expired.getQuantity(), Integer::sum);
+                    }
+                }
+                pendingExpiry.clear();
+            }
+            
+            if (!pendingRelease.isEmpty()) {
+                inventoryGateway.releaseAll(pendingRelease);
+                log.debug("Released expired holds for {} ticket types", pendingRelease.size());
+                pendingRelease.clear();
+            }
+        } catch (RuntimeException e) {
+            // Never let an exception cancel the ticker; undeleted holds and unreleased quantities are retried next tick
+            log.error("Seat hold expiry tick failed", e);
+        }
+    }
+}
\ No newline at end of file
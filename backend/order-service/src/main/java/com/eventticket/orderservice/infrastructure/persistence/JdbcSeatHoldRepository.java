@@ -0,0 +1,70 @@
+package com.eventticket.orderservice.infrastructure.persistence;
+
+import com.eventticket.orderservice.domain.model.SeatHold;
+import com.eventticket.orderservice.domain.port.SeatHoldRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Seat hold persistence over plain JDBC. Deadlines are stored as epoch millis, the same clock the
+ * timing wheel runs on.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcSeatHoldRepository implements SeatHoldRepository {
+    
+    private static final RowMapper<SeatHold> ROW_MAPPER = (rs, rowNum) -> new SeatHold(
+            UUID.fromString(rs.getString("hold_id")),
+            UUID.fromString(rs.getString("user_id")),
+            UUID.fromString(rs.getString("ticket_type_id")),
+            rs.getInt("quantity"),
+            rs.getLong("expires_at_millis"));
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void save(SeatHold hold) {
+        jdbcTemplate.update(
+                "INSERT INTO seat_holds (hold_id, user_id, ticket_type_id, quantity, expires_at_millis) VALUES (?, ?, ?, ?, ?)",
+                hold.getHoldId().toString(), hold.getUserId().toString(), hold.getTicketTypeId().toString(),
+                hold.getQuantity(), hold.getExpiresAtMillis());
+    }
+    
+    @Override
+    public boolean delete(UUID holdId) {
+        return jdbcTemplate.update("DELETE FROM seat_holds WHERE hold_id = ?", holdId.toString()) == 1;
+    }
+    
+    @Override
+    public Set<UUID> deleteAll(Collection<UUID> holdIds) {
+        List<UUID> ids = new ArrayList<>(holdIds);
+        int[][] counts = jdbcTemplate.batchUpdate("DELETE FROM seat_holds WHERE hold_id = ?", ids, ids.size(),
+                (ps, holdId) -> ps.setString(1, holdId.toString()));
+        Set<UUID> deleted = new HashSet<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 1) {
+                    deleted.add(ids.get(index));
+                }
+                index++;
+            }
+        }
+        return deleted;
+    }
+    
+    @Override
+    public List<SeatHold> findAll() {
+        return jdbcTemplate.query(
+                "SELECT hold_id, user_id, ticket_type_id, quantity, expires_at_millis FROM seat_holds", ROW_MAPPER);
+    }
+}
\ No newline at end of file
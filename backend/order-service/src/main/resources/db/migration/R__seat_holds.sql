@@ -0,0 +1,10 @@
+IF OBJECT_ID('seat_holds', 'U') IS NULL
+BEGIN
+    CREATE TABLE seat_holds (
+        hold_id CHAR(36) PRIMARY KEY,
+        user_id CHAR(36) NOT NULL,
+        ticket_type_id CHAR(36) NOT NULL,
+        quantity INT NOT NULL,
+        expires_at_millis BIGINT NOT NULL
+    );
+END
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.eventticket.paymentservice.domain.model;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentRequest {
+    
+    private UUID orderId;
+    private UUID userId;
+    
+    // Amount in the currency's minor unit (e.g. cents)
+    private long amount;
+    private String currency;
+    private String description;
+}
\ No newline at end of file
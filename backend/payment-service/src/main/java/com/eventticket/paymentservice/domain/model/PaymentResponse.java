@@ -0,0 +1,24 @@
+package com.eventticket.paymentservice.domain.model;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentResponse {
+    
+    private String transactionId;
+    private PaymentStatus status;
+    
+    // Amount in the currency's minor unit (e.g. cents)
+    private long amount;
+    private String currency;
+    private LocalDateTime paymentDate;
+    private String message;
+    
+    // For refunds, the key of the request this answers
+    private String idempotencyKey;
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.eventticket.paymentservice.domain.model;
+
+public enum PaymentStatus {
+    PENDING, COMPLETED, FAILED, REFUNDED
+}
\ No newline at end of file
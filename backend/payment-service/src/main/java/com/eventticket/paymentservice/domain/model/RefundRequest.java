@@ -0,0 +1,19 @@
+package com.eventticket.paymentservice.domain.model;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefundRequest {
+    
+    private String transactionId;
+    
+    // Amount in the currency's minor unit (e.g. cents)
+    private long amount;
+    private String currency;
+    
+    // Chosen by the caller and reused on every retry, so the provider applies the refund once
+    private String idempotencyKey;
+}
\ No newline at end of file
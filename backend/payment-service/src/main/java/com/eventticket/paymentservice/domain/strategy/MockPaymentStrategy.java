@@ -3,19 +3,54 @@ package com.eventticket.paymentservice.domain.strategy;
 import com.eventticket.paymentservice.domain.model.PaymentRequest;
 import com.eventticket.paymentservice.domain.model.PaymentResponse;
 import com.eventticket.paymentservice.domain.model.PaymentStatus;
+import com.eventticket.paymentservice.domain.model.RefundRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Component
 @Slf4j
 public class MockPaymentStrategy implements PaymentStrategy {
     
+    private final String providerName;
+    private final Duration paymentDelay;
+    private final Duration refundDelay;
+    private final double errorRate;
+    
+    // Refunds already applied, by idempotency key, as a real provider would remember them
+    private final Map<String, PaymentResponse> refunds = new ConcurrentHashMap<>();
+    
+    @Autowired
+    public MockPaymentStrategy(
+            @Value("${app.payment.mock.payment-delay:PT1S}") Duration paymentDelay,
+            @Value("${app.payment.mock.refund-delay:PT0.5S}") Duration refundDelay,
+            @Value("${app.payment.mock.error-rate:0}") double errorRate) {
+        this("MOCK", paymentDelay, refundDelay, errorRate);
+    }
+    
+    /**
+     * Creates a mock provider variant, e.g. a slow or flaky one for exercising provider routing.
+     * {@code errorRate} is the share of calls that throw, as opposed to the 5% that are declined.
+     */
+    public MockPaymentStrategy(String providerName, Duration paymentDelay, Duration refundDelay, double errorRate) {
+        this.providerName = providerName;
+        this.paymentDelay = paymentDelay;
+        this.refundDelay = refundDelay;
+        this.errorRate = errorRate;
+    }
+    
     @Override
     public String getProviderName() {
-        return "MOCK";
+        return providerName;
     }
     
     @Override
@@ -23,14 +58,10 @@ public class MockPaymentStrategy implements PaymentStrategy {
         log.info("Processing mock payment for order: {}", request.getOrderId());
         
         // Simulate payment processing delay
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        simulateProviderCall(paymentDelay);
         
         // Simulate 95% success rate
-        boolean isSuccess = Math.random() > 0.05;
+        boolean isSuccess = ThreadLocalRandom.current().nextDouble() > 0.05;
         
         if (isSuccess) {
             return PaymentResponse.builder()
@@ -54,28 +85,61 @@ public class MockPaymentStrategy implements PaymentStrategy {
     }
     
     @Override
-    public PaymentResponse refundPayment(String transactionId, double amount) {
-        log.info("Processing mock refund for transaction: {}", transactionId);
+    public PaymentResponse refundPayment(RefundRequest refund) {
+        log.info("Processing mock refund for transaction: {}", refund.getTransactionId());
         
         // Simulate refund processing delay
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        simulateProviderCall(refundDelay);
+        
+        return refundResponse(refund);
+    }
+    
+    @Override
+    public List<PaymentResponse> refundPayments(List<RefundRequest> refunds) {
+        log.info("Processing mock batch refund of {} transactions", refunds.size());
         
-        return PaymentResponse.builder()
-                .transactionId("REFUND_" + transactionId)
+        // A bulk refund costs a single provider round trip
+        simulateProviderCall(refundDelay);
+        
+        return refunds.stream()
+                .map(this::refundResponse)
+                .toList();
+    }
+    
+    @Override
+    public boolean supportsBulkRefunds() {
+        return true;
+    }
+    
+    private PaymentResponse refundResponse(RefundRequest refund) {
+        // A retry with a known key gets the original result instead of a second refund
+        return refunds.computeIfAbsent(refund.getIdempotencyKey(), key -> PaymentResponse.builder()
+                .transactionId("REFUND_" + refund.getTransactionId())
                 .status(PaymentStatus.REFUNDED)
-                .amount(amount)
-                .currency("USD")
+                .amount(refund.getAmount())
+                .currency(refund.getCurrency())
                 .paymentDate(LocalDateTime.now())
                 .message("Refund processed successfully")
-                .build();
+                .idempotencyKey(key)
+                .build());
     }
     
     @Override
     public boolean isAvailable() {
         return true; // Mock is always available
     }
+    
+    private void simulateProviderCall(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            // Cancelled, e.g. past its deadline: the call must not be reported as processed
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Mock provider " + providerName + " call was interrupted", e);
+        }
+        
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            throw new IllegalStateException("Mock provider " + providerName + " failed");
+        }
+    }
 } 
\ No newline at end of file
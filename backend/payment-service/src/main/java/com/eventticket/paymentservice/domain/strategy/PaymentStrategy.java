@@ -2,6 +2,10 @@ package com.eventticket.paymentservice.domain.strategy;
 
 import com.eventticket.paymentservice.domain.model.PaymentRequest;
 import com.eventticket.paymentservice.domain.model.PaymentResponse;
+import com.eventticket.paymentservice.domain.model.RefundRequest;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public interface PaymentStrategy {
     
@@ -9,7 +13,33 @@ public interface PaymentStrategy {
     
     PaymentResponse processPayment(PaymentRequest request);
     
-    PaymentResponse refundPayment(String transactionId, double amount);
+    /**
+     * Refunds {@code refund.amount} in the currency's minor unit (e.g. cents). Implementations must
+     * hand the refund's idempotency key to the provider, so a retried refund is applied once, and
+     * echo it in the response.
+     */
+    PaymentResponse refundPayment(RefundRequest refund);
+    
+    /**
+     * Refunds a batch in as few provider calls as possible, one response per refund carrying its
+     * idempotency key. Providers without a bulk API inherit this one-call-per-refund fallback;
+     * batching callers should check {@link #supportsBulkRefunds()} and send such providers one
+     * refund per call instead, so each refund gets its own deadline and result.
+     */
+    default List<PaymentResponse> refundPayments(List<RefundRequest> refunds) {
+        List<PaymentResponse> responses = new ArrayList<>(refunds.size());
+        for (RefundRequest refund : refunds) {
+            responses.add(refundPayment(refund));
+        }
+        return responses;
+    }
+    
+    /**
+     * Whether {@link #refundPayments} settles a whole batch in one provider round trip.
+     */
+    default boolean supportsBulkRefunds() {
+        return false;
+    }
     
     boolean isAvailable();
 } 
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.eventticket.paymentservice.infrastructure.config;
+
+import com.eventticket.common.instrumentation.EnableInstrumentation;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableInstrumentation
+public class InstrumentationConfig {
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.eventticket.paymentservice.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@Slf4j
+public class PaymentExecutorConfig {
+    
+    @Bean
+    public AsyncTaskExecutor paymentTaskExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${app.payment.executor.platform-threads:64}") int platformThreads,
+            @Value("${app.payment.executor.queue-capacity:1000}") int queueCapacity) {
+        if (virtualThreads) {
+            // One virtual thread per payment; blocking provider calls only park the virtual thread
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("payment-");
+            executor.setVirtualThreads(true);
+            log.info("Payment executor running on virtual threads");
+            return executor;
+        }
+        
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("payment-");
+        executor.setCorePoolSize(platformThreads);
+        executor.setMaxPoolSize(platformThreads);
+        // Bounded, and the default abort policy rejects overflow instead of queueing without limit
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        log.info("Payment executor running on {} platform threads, queue capacity {}", platformThreads, queueCapacity);
+        return executor;
+    }
+}
\ No newline at end of file
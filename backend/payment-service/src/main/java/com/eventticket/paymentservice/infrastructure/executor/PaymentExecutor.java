@@ -0,0 +1,126 @@
+package com.eventticket.paymentservice.infrastructure.executor;
+
+import com.eventticket.common.exception.ApiException;
+import com.eventticket.paymentservice.domain.model.PaymentRequest;
+import com.eventticket.paymentservice.domain.model.PaymentResponse;
+import com.eventticket.paymentservice.domain.model.RefundRequest;
+import com.eventticket.paymentservice.domain.strategy.PaymentStrategy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking {@link PaymentStrategy} calls off the request thread.
+ *
+ * <p>Each provider gets its own concurrency limit, and every call carries a deadline: waiting for
+ * a permit and the provider call itself both count against it, and the task is interrupted once
+ * the deadline passes.</p>
+ */
+@Component
+@Slf4j
+public class PaymentExecutor {
+    
+    public static final String PROVIDER_BUSY = "PROVIDER_BUSY";
+    public static final String EXECUTOR_SATURATED = "PAYMENT_EXECUTOR_SATURATED";
+    
+    private final AsyncTaskExecutor taskExecutor;
+    private final int maxConcurrencyPerProvider;
+    private final Duration defaultDeadline;
+    private final Map<String, Semaphore> providerPermits = new ConcurrentHashMap<>();
+    
+    public PaymentExecutor(
+            @Qualifier("paymentTaskExecutor") AsyncTaskExecutor taskExecutor,
+            @Value("${app.payment.executor.max-concurrency-per-provider:1000}") int maxConcurrencyPerProvider,
+            @Value("${app.payment.executor.deadline:PT30S}") Duration defaultDeadline) {
+        this.taskExecutor = taskExecutor;
+        this.maxConcurrencyPerProvider = maxConcurrencyPerProvider;
+        this.defaultDeadline = defaultDeadline;
+    }
+    
+    public CompletableFuture<PaymentResponse> processPayment(PaymentStrategy strategy, PaymentRequest request) {
+        return processPayment(strategy, request, defaultDeadline);
+    }
+    
+    public CompletableFuture<PaymentResponse> processPayment(PaymentStrategy strategy, PaymentRequest request, Duration deadline) {
+        return execute(strategy.getProviderName(), () -> strategy.processPayment(request), deadline);
+    }
+    
+    public CompletableFuture<PaymentResponse> refundPayment(PaymentStrategy strategy, RefundRequest refund) {
+        return execute(strategy.getProviderName(), () -> strategy.refundPayment(refund), defaultDeadline);
+    }
+    
+    public CompletableFuture<List<PaymentResponse>> refundPayments(PaymentStrategy strategy, List<RefundRequest> refunds) {
+        return execute(strategy.getProviderName(), () -> strategy.refundPayments(refunds), defaultDeadline);
+    }
+    
+    /**
+     * Whether {@code error} is this executor turning a call away before it reached the provider.
+     */
+    public static boolean isLocalRejection(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof ApiException e
+                && (PROVIDER_BUSY.equals(e.getErrorCode()) || EXECUTOR_SATURATED.equals(e.getErrorCode()));
+    }
+    
+    private <T> CompletableFuture<T> execute(String providerName, Supplier<T> call, Duration deadline) {
+        Semaphore permits = providerPermits.computeIfAbsent(providerName, name -> new Semaphore(maxConcurrencyPerProvider));
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        
+        Future<?> task;
+        try {
+            task = taskExecutor.submit(() -> {
+                boolean acquired = false;
+                try {
+                    acquired = permits.tryAcquire(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (!acquired) {
+                        result.completeExceptionally(new ApiException(
+                                "Payment provider " + providerName + " is at its concurrency limit",
+                                HttpStatus.SERVICE_UNAVAILABLE, PROVIDER_BUSY));
+                        return;
+                    }
+                    result.complete(call.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    result.completeExceptionally(e);
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                } finally {
+                    if (acquired) {
+                        permits.release();
+                    }
+                }
+            });
+        } catch (TaskRejectedException e) {
+            result.completeExceptionally(new ApiException(
+                    "Payment executor is saturated, try again later",
+                    HttpStatus.SERVICE_UNAVAILABLE, EXECUTOR_SATURATED));
+            return result;
+        }
+        
+        return result
+                .orTimeout(deadline.toNanos(), TimeUnit.NANOSECONDS)
+                .whenComplete((response, error) -> {
+                    if (error instanceof TimeoutException) {
+                        log.warn("Payment call to provider {} exceeded deadline of {}", providerName, deadline);
+                        task.cancel(true);
+                    }
+                });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,259 @@
+package com.eventticket.paymentservice.infrastructure.refund;
+
+import com.eventticket.common.exception.ApiException;
+import com.eventticket.paymentservice.domain.model.PaymentResponse;
+import com.eventticket.paymentservice.domain.model.RefundRequest;
+import com.eventticket.paymentservice.domain.strategy.PaymentStrategy;
+import com.eventticket.paymentservice.infrastructure.executor.PaymentExecutor;
+import com.eventticket.paymentservice.infrastructure.routing.PaymentRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Coalesces individual refunds into per-provider batches. A provider's queue is flushed as soon as
+ * it holds {@code batch-size} refunds, and at least every {@code max-delay} otherwise. Batches run
+ * on the {@link PaymentExecutor}, so several batches per provider can be in flight at once.
+ *
+ * <p>Every batch goes through the {@link PaymentRouter}, so an open circuit fails it fast and its
+ * outcome feeds the provider's health. Providers without a bulk refund API get batches of one: a
+ * sequential fallback batch would share a single deadline, and a timeout part-way through would
+ * fail refunds that had already been executed.</p>
+ *
+ * <p>Every refund carries an idempotency key that the provider uses to apply it once, so a caller
+ * whose batch timed out can safely retry with the same key. A key that is already queued or in
+ * flight here joins the existing refund. Responses are matched to refunds by key; a refund the
+ * provider did not answer fails instead of waiting forever.</p>
+ */
+@Component
+@Slf4j
+public class RefundBatcher {
+    
+    private final PaymentExecutor paymentExecutor;
+    private final PaymentRouter paymentRouter;
+    private final Map<String, ProviderQueue> queues;
+    private final Duration maxDelay;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final Map<String, CompletableFuture<PaymentResponse>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> refundedAmounts = new ConcurrentHashMap<>();
+    
+    private final Counter submitted;
+    private final Counter completed;
+    private final Counter failed;
+    private final DistributionSummary batchSizes;
+    
+    private ScheduledExecutorService flusher;
+    
+    public RefundBatcher(
+            PaymentExecutor paymentExecutor,
+            PaymentRouter paymentRouter,
+            List<PaymentStrategy> strategies,
+            MeterRegistry meterRegistry,
+            @Value("${app.payment.refunds.batch-size:100}") int batchSize,
+            @Value("${app.payment.refunds.max-delay:PT0.2S}") Duration maxDelay) {
+        this.paymentExecutor = paymentExecutor;
+        this.paymentRouter = paymentRouter;
+        this.queues = strategies.stream()
+                .collect(Collectors.toUnmodifiableMap(PaymentStrategy::getProviderName,
+                        strategy -> new ProviderQueue(strategy, strategy.supportsBulkRefunds() ? batchSize : 1)));
+        this.maxDelay = maxDelay;
+        this.meterRegistry = meterRegistry;
+        
+        this.submitted = Counter.builder("payment.refunds.submitted").register(meterRegistry);
+        this.completed = Counter.builder("payment.refunds.completed").register(meterRegistry);
+        this.failed = Counter.builder("payment.refunds.failed").register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("payment.refunds.batch.size").register(meterRegistry);
+        Gauge.builder("payment.refunds.outstanding", outstanding, AtomicInteger::get)
+                .description("Refunds queued or in flight")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "refund-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long delayMillis = maxDelay.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushAll, delayMillis, delayMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        flusher.shutdown();
+        flushAll();
+    }
+    
+    public CompletableFuture<PaymentResponse> submit(String providerName, RefundRequest refund) {
+        ProviderQueue queue = queues.get(providerName);
+        if (queue == null) {
+            throw ApiException.badRequest("Unknown payment provider: " + providerName);
+        }
+        
+        if (refund.getIdempotencyKey() == null || refund.getIdempotencyKey().isBlank()) {
+            throw ApiException.badRequest("Refund for transaction " + refund.getTransactionId() + " has no idempotency key");
+        }
+        if (refund.getCurrency() == null || refund.getCurrency().isBlank()) {
+            throw ApiException.badRequest("Refund for transaction " + refund.getTransactionId() + " has no currency");
+        }
+        
+        PendingRefund pending = new PendingRefund(refund, new CompletableFuture<>());
+        CompletableFuture<PaymentResponse> existing = inFlight.putIfAbsent(refund.getIdempotencyKey(), pending.result);
+        if (existing != null) {
+            return existing;
+        }
+        pending.result.whenComplete((response, error) -> inFlight.remove(refund.getIdempotencyKey(), pending.result));
+        queue.items.offer(pending);
+        outstanding.incrementAndGet();
+        submitted.increment();
+        if (queue.size.incrementAndGet() >= queue.batchSize) {
+            flush(queue);
+        }
+        return pending.result;
+    }
+    
+    public List<CompletableFuture<PaymentResponse>> submitAll(String providerName, List<RefundRequest> refunds) {
+        List<CompletableFuture<PaymentResponse>> results = new ArrayList<>(refunds.size());
+        for (RefundRequest refund : refunds) {
+            results.add(submit(providerName, refund));
+        }
+        return results;
+    }
+    
+    public int getOutstandingCount() {
+        return outstanding.get();
+    }
+    
+    private void flushAll() {
+        try {
+            queues.values().forEach(queue -> {
+                while (queue.size.get() > 0) {
+                    flush(queue);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Refund batch flush failed", e);
+        }
+    }
+    
+    private void flush(ProviderQueue queue) {
+        List<PendingRefund> batch = new ArrayList<>(queue.batchSize);
+        PendingRefund pending;
+        while (batch.size() < queue.batchSize && (pending = queue.items.poll()) != null) {
+            batch.add(pending);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        queue.size.addAndGet(-batch.size());
+        batchSizes.record(batch.size());
+        
+        PaymentStrategy strategy = queue.strategy;
+        List<RefundRequest> requests = batch.stream().map(PendingRefund::request).toList();
+        CompletableFuture<List<PaymentResponse>> call;
+        try {
+            call = paymentRouter.callProvider(strategy.getProviderName(), () -> strategy.supportsBulkRefunds()
+                    ? paymentExecutor.refundPayments(strategy, requests)
+                    : paymentExecutor.refundPayment(strategy, requests.get(0)).thenApply(List::of));
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        call.whenComplete((responses, error) -> {
+            outstanding.addAndGet(-batch.size());
+            try {
+                if (error != null) {
+                    log.warn("Batch of {} refunds failed for provider {}", batch.size(), strategy.getProviderName(), error);
+                    fail(batch, error);
+                } else {
+                    complete(strategy, batch, responses);
+                }
+            } catch (RuntimeException e) {
+                // Whatever went wrong, no caller may be left waiting
+                fail(batch, e);
+            }
+        });
+    }
+    
+    private void complete(PaymentStrategy strategy, List<PendingRefund> batch, List<PaymentResponse> responses) {
+        Map<String, PaymentResponse> byKey = new HashMap<>();
+        if (responses != null) {
+            for (PaymentResponse response : responses) {
+                if (response != null && response.getIdempotencyKey() != null) {
+                    byKey.put(response.getIdempotencyKey(), response);
+                }
+            }
+        }
+        if (byKey.size() != batch.size()) {
+            log.warn("Provider {} answered {} of {} refunds in a batch", strategy.getProviderName(), byKey.size(), batch.size());
+        }
+        
+        for (PendingRefund item : batch) {
+            PaymentResponse response = byKey.get(item.request().getIdempotencyKey());
+            if (response == null) {
+                failed.increment();
+                item.result.completeExceptionally(new ApiException(
+                        "Provider " + strategy.getProviderName() + " returned no result for refund of transaction "
+                                + item.request().getTransactionId() + "; retry with the same idempotency key",
+                        HttpStatus.BAD_GATEWAY, "REFUND_RESULT_MISSING"));
+                continue;
+            }
+            completed.increment();
+            refundedAmount(item.request().getCurrency()).increment(response.getAmount());
+            item.result.complete(response);
+        }
+    }
+    
+    private void fail(List<PendingRefund> batch, Throwable error) {
+        for (PendingRefund item : batch) {
+            if (item.result.completeExceptionally(error)) {
+                failed.increment();
+            }
+        }
+    }
+    
+    private Counter refundedAmount(String currency) {
+        return refundedAmounts.computeIfAbsent(currency, code -> Counter.builder("payment.refunds.amount")
+                .description("Refunded amount in minor units of the tagged currency")
+                .tag("currency", code)
+                .register(meterRegistry));
+    }
+    
+    private record PendingRefund(RefundRequest request, CompletableFuture<PaymentResponse> result) {
+    }
+    
+    private static final class ProviderQueue {
+        private final PaymentStrategy strategy;
+        private final int batchSize;
+        private final Queue<PendingRefund> items = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        
+        private ProviderQueue(PaymentStrategy strategy, int batchSize) {
+            this.strategy = strategy;
+            this.batchSize = batchSize;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.eventticket.paymentservice.infrastructure.routing;
+
+import com.eventticket.common.exception.ApiException;
+import com.eventticket.paymentservice.domain.model.PaymentRequest;
+import com.eventticket.paymentservice.domain.model.PaymentResponse;
+import com.eventticket.paymentservice.domain.model.RefundRequest;
+import com.eventticket.paymentservice.domain.strategy.PaymentStrategy;
+import com.eventticket.paymentservice.infrastructure.executor.PaymentExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Sends each payment to the fastest healthy provider. Health is measured per
+ * {@link PaymentStrategy#getProviderName()} from the outcome of every routed call; exceptions and
+ * deadline overruns count as failures, declined payments do not. Calls our own
+ * {@link PaymentExecutor} turns away never reached the provider and are not counted at all.
+ */
+@Component
+@Slf4j
+public class PaymentRouter {
+    
+    private final PaymentExecutor paymentExecutor;
+    private final List<PaymentStrategy> strategies;
+    private final Map<String, ProviderHealth> health;
+    
+    public PaymentRouter(PaymentExecutor paymentExecutor, List<PaymentStrategy> strategies, RoutingSettings settings) {
+        this.paymentExecutor = paymentExecutor;
+        this.strategies = List.copyOf(strategies);
+        long now = System.nanoTime();
+        this.health = strategies.stream()
+                .collect(Collectors.toUnmodifiableMap(PaymentStrategy::getProviderName,
+                        strategy -> new ProviderHealth(strategy.getProviderName(), settings, now)));
+    }
+    
+    public CompletableFuture<PaymentResponse> processPayment(PaymentRequest request) {
+        long now = System.nanoTime();
+        List<PaymentStrategy> candidates = strategies.stream()
+                .filter(PaymentStrategy::isAvailable)
+                .sorted(Comparator.comparingDouble(strategy -> health.get(strategy.getProviderName()).getLatencyScore()))
+                .toList();
+        for (PaymentStrategy candidate : candidates) {
+            ProviderHealth.Permit permit = health.get(candidate.getProviderName()).tryAcquire(now);
+            if (permit != null) {
+                log.debug("Routing payment for order {} to provider {}", request.getOrderId(), candidate.getProviderName());
+                return track(health.get(candidate.getProviderName()), permit, () -> paymentExecutor.processPayment(candidate, request));
+            }
+        }
+        throw new ApiException("No payment provider is currently available",
+                HttpStatus.SERVICE_UNAVAILABLE, "NO_PROVIDER_AVAILABLE");
+    }
+    
+    public CompletableFuture<PaymentResponse> refundPayment(String providerName, RefundRequest refund) {
+        PaymentStrategy strategy = strategies.stream()
+                .filter(candidate -> candidate.getProviderName().equals(providerName))
+                .findFirst()
+                .orElseThrow(() -> ApiException.badRequest("Unknown payment provider: " + providerName));
+        
+        return callProvider(providerName, () -> paymentExecutor.refundPayment(strategy, refund));
+    }
+    
+    /**
+     * Runs {@code call} against the named provider if its circuit and concurrency limit admit it,
+     * and records the outcome in the provider's health.
+     */
+    public <T> CompletableFuture<T> callProvider(String providerName, Supplier<CompletableFuture<T>> call) {
+        ProviderHealth providerHealth = health.get(providerName);
+        if (providerHealth == null) {
+            throw ApiException.badRequest("Unknown payment provider: " + providerName);
+        }
+        ProviderHealth.Permit permit = providerHealth.tryAcquire(System.nanoTime());
+        if (permit == null) {
+            throw new ApiException("Payment provider " + providerName + " is currently unavailable",
+                    HttpStatus.SERVICE_UNAVAILABLE, "PROVIDER_UNAVAILABLE");
+        }
+        return track(providerHealth, permit, call);
+    }
+    
+    public Map<String, ProviderHealth> getProviderHealth() {
+        return health;
+    }
+    
+    private <T> CompletableFuture<T> track(ProviderHealth providerHealth, ProviderHealth.Permit permit,
+                                           Supplier<CompletableFuture<T>> call) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            if (PaymentExecutor.isLocalRejection(e)) {
+                providerHealth.onRejected(permit);
+            } else {
+                providerHealth.onComplete(permit, System.nanoTime() - start, false, System.nanoTime());
+            }
+            throw e;
+        }
+        return future.whenComplete((response, error) -> {
+            if (error != null && PaymentExecutor.isLocalRejection(error)) {
+                providerHealth.onRejected(permit);
+                return;
+            }
+            long end = System.nanoTime();
+            providerHealth.onComplete(permit, end - start, error == null, end);
+        });
+    }
+}
\ No newline at end of file
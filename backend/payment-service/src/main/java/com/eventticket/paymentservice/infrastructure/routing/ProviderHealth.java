@@ -0,0 +1,222 @@
+package com.eventticket.paymentservice.infrastructure.routing;
+
+import lombok.Getter;
+
+/**
+ * Live health of one payment provider: a rolling call/error/latency window, a half-open circuit
+ * breaker and a latency-driven concurrency limit.
+ *
+ * <p>The limit follows a gradient rule: each time the window rolls over it is scaled by
+ * {@code minLatency / currentLatency} and given {@code sqrt(limit)} of headroom, so it shrinks as
+ * soon as the provider queues requests and grows back once latency returns to its floor.</p>
+ */
+public class ProviderHealth {
+    
+    public enum CircuitState {
+        CLOSED, OPEN, HALF_OPEN
+    }
+    
+    @Getter
+    private final String providerName;
+    private final RoutingSettings settings;
+    
+    private final long[] bucketCalls;
+    private final long[] bucketFailures;
+    private final long[] bucketLatencyNanos;
+    private long currentBucketStart;
+    private int currentBucket;
+    
+    @Getter
+    private CircuitState state = CircuitState.CLOSED;
+    private long openedAtNanos;
+    // Bumped on every transition to half-open, so probes from an earlier episode are not counted
+    private long halfOpenEpisode;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+    
+    private int inFlight;
+    private double limit;
+    private long minLatencyNanos = Long.MAX_VALUE;
+    private double latencyEwmaNanos;
+    
+    ProviderHealth(String providerName, RoutingSettings settings, long nowNanos) {
+        this.providerName = providerName;
+        this.settings = settings;
+        this.bucketCalls = new long[settings.getWindowBuckets()];
+        this.bucketFailures = new long[settings.getWindowBuckets()];
+        this.bucketLatencyNanos = new long[settings.getWindowBuckets()];
+        this.currentBucketStart = nowNanos;
+        this.limit = settings.getInitialLimit();
+    }
+    
+    /**
+     * Takes a slot for one call if the circuit and the concurrency limit allow it, or returns
+     * {@code null}. The permit must be handed back to {@link #onComplete} exactly once.
+     */
+    synchronized Permit tryAcquire(long nowNanos) {
+        roll(nowNanos);
+        if (state == CircuitState.OPEN) {
+            if (nowNanos - openedAtNanos < settings.getOpenDuration().toNanos()) {
+                return null;
+            }
+            state = CircuitState.HALF_OPEN;
+            halfOpenEpisode++;
+            halfOpenInFlight = 0;
+            halfOpenSuccesses = 0;
+        }
+        Permit permit;
+        if (state == CircuitState.HALF_OPEN) {
+            if (halfOpenInFlight >= settings.getHalfOpenProbes()) {
+                return null;
+            }
+            halfOpenInFlight++;
+            permit = new Permit(halfOpenEpisode);
+        } else if (inFlight >= (int) limit) {
+            return null;
+        } else {
+            permit = Permit.CLOSED;
+        }
+        inFlight++;
+        return permit;
+    }
+    
+    synchronized void onComplete(Permit permit, long latencyNanos, boolean success, long nowNanos) {
+        roll(nowNanos);
+        inFlight--;
+        bucketCalls[currentBucket]++;
+        bucketLatencyNanos[currentBucket] += latencyNanos;
+        if (!success) {
+            bucketFailures[currentBucket]++;
+        }
+        long scoredLatency = success ? latencyNanos : Math.max(latencyNanos, settings.getFailureLatencyPenalty().toNanos());
+        latencyEwmaNanos = latencyEwmaNanos == 0 ? scoredLatency : latencyEwmaNanos * 0.8 + scoredLatency * 0.2;
+        if (success) {
+            minLatencyNanos = Math.min(minLatencyNanos, latencyNanos);
+        }
+        
+        if (state == CircuitState.HALF_OPEN) {
+            // Calls admitted before the circuit opened, or probes of an earlier episode, only feed the window
+            if (!permit.isProbe() || permit.halfOpenEpisode != halfOpenEpisode) {
+                return;
+            }
+            halfOpenInFlight--;
+            if (!success) {
+                open(nowNanos);
+            } else if (++halfOpenSuccesses >= settings.getHalfOpenProbes()) {
+                close();
+            }
+        } else if (state == CircuitState.CLOSED && shouldOpen()) {
+            open(nowNanos);
+        }
+    }
+    
+    /**
+     * Hands back a permit whose call never reached the provider, such as one turned away by our own
+     * executor. Nothing is recorded: local backpressure says nothing about the provider's health.
+     */
+    synchronized void onRejected(Permit permit) {
+        inFlight--;
+        if (state == CircuitState.HALF_OPEN && permit.isProbe() && permit.halfOpenEpisode == halfOpenEpisode) {
+            halfOpenInFlight--;
+        }
+    }
+    
+    /**
+     * Lower is better. Failed calls count as at least the configured failure penalty. Providers
+     * without measurements score zero so they get explored.
+     */
+    synchronized double getLatencyScore() {
+        return latencyEwmaNanos;
+    }
+    
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+    
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+    
+    synchronized double getErrorRate() {
+        long calls = 0;
+        long failures = 0;
+        for (int i = 0; i < bucketCalls.length; i++) {
+            calls += bucketCalls[i];
+            failures += bucketFailures[i];
+        }
+        return calls == 0 ? 0 : (double) failures / calls;
+    }
+    
+    private boolean shouldOpen() {
+        long calls = 0;
+        long failures = 0;
+        for (int i = 0; i < bucketCalls.length; i++) {
+            calls += bucketCalls[i];
+            failures += bucketFailures[i];
+        }
+        return calls >= settings.getMinimumCalls() && (double) failures / calls >= settings.getFailureRateThreshold();
+    }
+    
+    private void open(long nowNanos) {
+        state = CircuitState.OPEN;
+        openedAtNanos = nowNanos;
+    }
+    
+    private void close() {
+        state = CircuitState.CLOSED;
+        for (int i = 0; i < bucketCalls.length; i++) {
+            bucketCalls[i] = 0;
+            bucketFailures[i] = 0;
+            bucketLatencyNanos[i] = 0;
+        }
+    }
+    
+    /**
+     * One admitted call, remembering whether it was a half-open probe and of which episode.
+     */
+    static final class Permit {
+        
+        private static final Permit CLOSED = new Permit(-1);
+        
+        private final long halfOpenEpisode;
+        
+        private Permit(long halfOpenEpisode) {
+            this.halfOpenEpisode = halfOpenEpisode;
+        }
+        
+        boolean isProbe() {
+            return halfOpenEpisode >= 0;
+        }
+    }
+    
+    private void roll(long nowNanos) {
+        long bucketNanos = settings.getBucketDuration().toNanos();
+        if (nowNanos - currentBucketStart < bucketNanos) {
+            return;
+        }
+        adjustLimit();
+        long elapsedBuckets = (nowNanos - currentBucketStart) / bucketNanos;
+        for (long i = 0; i < Math.min(elapsedBuckets, bucketCalls.length); i++) {
+            currentBucket = (currentBucket + 1) % bucketCalls.length;
+            bucketCalls[currentBucket] = 0;
+            bucketFailures[currentBucket] = 0;
+            bucketLatencyNanos[currentBucket] = 0;
+        }
+        currentBucketStart += elapsedBuckets * bucketNanos;
+    }
+    
+    private void adjustLimit() {
+        long calls = bucketCalls[currentBucket];
+        if (calls == 0 || minLatencyNanos == Long.MAX_VALUE) {
+            return;
+        }
+        double averageLatency = (double) bucketLatencyNanos[currentBucket] / calls;
+        double gradient = Math.max(0.5, Math.min(1.0, minLatencyNanos / averageLatency));
+        if (gradient >= 1.0 && inFlight < limit / 2) {
+            // Latency is at its floor but the limit is not the bottleneck, so there is no reason to grow it
+            return;
+        }
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(settings.getMinLimit(), Math.min(settings.getMaxLimit(), limit * 0.8 + newLimit * 0.2));
+    }
+}
\ No newline at end of file
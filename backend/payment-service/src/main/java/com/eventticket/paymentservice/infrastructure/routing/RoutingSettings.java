@@ -0,0 +1,43 @@
+package com.eventticket.paymentservice.infrastructure.routing;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+public class RoutingSettings {
+    
+    @Value("${app.payment.routing.window-buckets:10}")
+    private int windowBuckets;
+    
+    @Value("${app.payment.routing.bucket-duration:PT1S}")
+    private Duration bucketDuration;
+    
+    @Value("${app.payment.routing.minimum-calls:20}")
+    private int minimumCalls;
+    
+    @Value("${app.payment.routing.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+    
+    @Value("${app.payment.routing.open-duration:PT10S}")
+    private Duration openDuration;
+    
+    @Value("${app.payment.routing.half-open-probes:3}")
+    private int halfOpenProbes;
+    
+    @Value("${app.payment.routing.initial-limit:20}")
+    private int initialLimit;
+    
+    @Value("${app.payment.routing.min-limit:2}")
+    private int minLimit;
+    
+    @Value("${app.payment.routing.max-limit:1000}")
+    private int maxLimit;
+    
+    // Latency a failed call counts as at least, so a provider that fails fast does not look fast
+    @Value("${app.payment.routing.failure-latency-penalty:PT2S}")
+    private Duration failureLatencyPenalty;
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.eventticket.ticketservice;
+
+import com.eventticket.common.instrumentation.EnableInstrumentation;
+import com.eventticket.common.security.EnableJwtAuthentication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+@EnableJwtAuthentication
+@EnableInstrumentation
+public class TicketServiceApplication {
+    
+    public static void main(String[] args) {
+        SpringApplication.run(TicketServiceApplication.class, args);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.eventticket.ticketservice.application.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+public class BulkIssueRequest {
+    
+    @NotNull(message = "Order ID is required")
+    private UUID orderId;
+    
+    @NotNull(message = "User ID is required")
+    private UUID userId;
+    
+    @NotNull(message = "Event ID is required")
+    private UUID eventId;
+    
+    @NotNull(message = "Ticket type ID is required")
+    private UUID ticketTypeId;
+    
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private int quantity;
+}
\ No newline at end of file
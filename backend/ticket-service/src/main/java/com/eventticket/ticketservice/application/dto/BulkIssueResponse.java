@@ -0,0 +1,17 @@
+package com.eventticket.ticketservice.application.dto;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkIssueResponse {
+    
+    private UUID orderId;
+    private int issuedCount;
+    private String firstTicketNumber;
+    private String lastTicketNumber;
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.eventticket.ticketservice.application.service;
+
+import com.eventticket.ticketservice.domain.model.AdmissionList;
+import com.eventticket.ticketservice.domain.model.RevocationUpdate;
+import com.eventticket.ticketservice.domain.model.ScanRecord;
+import com.eventticket.ticketservice.domain.model.ScanSyncResult;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface GateSyncService {
+    
+    /**
+     * The X.509-encoded public key gates verify ticket signatures with.
+     */
+    byte[] getVerificationKey();
+    
+    /**
+     * Adds a refunded or cancelled ticket to its event's revocation set. The ticket's status must
+     * already be committed, since that is what the set is rebuilt from after a restart.
+     */
+    void revoke(UUID eventId, long ticketId);
+    
+    RevocationUpdate getRevocations(UUID eventId, long sinceVersion);
+    
+    /**
+     * Digests of the tokens issued so far for the event's valid tickets. Gates refresh it like the
+     * revocations; tokens issued since are verified by signature until the next refresh.
+     */
+    AdmissionList getAdmissions(UUID eventId);
+    
+    /**
+     * Records a gate's admitted scans and returns what other gates admitted since {@code sinceVersion}.
+     */
+    ScanSyncResult syncScans(UUID eventId, String gateId, long sinceVersion, List<ScanRecord> scans);
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.eventticket.ticketservice.application.service;
+
+import com.eventticket.ticketservice.domain.model.QrCode;
+import com.eventticket.ticketservice.domain.model.QrFormat;
+
+public interface QrCodeService {
+    
+    /**
+     * Queues QR generation for a freshly issued ticket so the first download is a cache hit.
+     */
+    void scheduleGeneration(String ticketNumber);
+    
+    QrCode getQrCode(String ticketNumber);
+    
+    byte[] render(QrCode qrCode, QrFormat format);
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.eventticket.ticketservice.application.service;
+
+import com.eventticket.ticketservice.application.dto.BulkIssueRequest;
+import com.eventticket.ticketservice.application.dto.BulkIssueResponse;
+
+public interface TicketIssuanceService {
+    
+    BulkIssueResponse issueTickets(BulkIssueRequest request);
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.eventticket.ticketservice.application.service;
+
+public interface TicketLifecycleService {
+    
+    /**
+     * Marks an issued ticket refunded and, once that commits, revokes it at the gates.
+     */
+    void refundTicket(String ticketNumber);
+    
+    /**
+     * Marks an issued ticket cancelled and, once that commits, revokes it at the gates.
+     */
+    void cancelTicket(String ticketNumber);
+}
\ No newline at end of file
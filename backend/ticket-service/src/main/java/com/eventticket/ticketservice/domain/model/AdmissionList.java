@@ -0,0 +1,22 @@
+package com.eventticket.ticketservice.domain.model;
+
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Digests of the tokens issued for an event's valid tickets, which a gate admits without checking
+ * their signature. Tokens not in the list yet are still verified against the public key.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdmissionList {
+    
+    private UUID eventId;
+    private int ticketCount;
+    
+    // Serialized TokenDigestSet
+    private byte[] digests;
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.eventticket.ticketservice.domain.model;
+
+import java.util.UUID;
+
+/**
+ * The claims carried by a ticket's QR code for offline validation at the gate.
+ */
+public record GateToken(long ticketId, UUID eventId, UUID ticketTypeId) {
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.eventticket.ticketservice.domain.model;
+
+/**
+ * Digest of the gate token issued for a ticket, see GateTokenCodec#digest.
+ */
+public record GateTokenDigest(long ticketId, byte[] digest) {
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.eventticket.ticketservice.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * A QR symbol as a square 1-bit matrix, one bit per module (1 = dark), rows padded to whole bytes
+ * with the most significant bit first. A version 5 symbol takes 186 bytes including the header.
+ */
+public final class QrBitmap {
+    
+    public static final int MAX_SIZE = 177;
+    
+    private final int size;
+    private final int stride;
+    private final byte[] bits;
+    
+    private QrBitmap(int size, byte[] bits) {
+        this.size = size;
+        this.stride = (size + 7) >>> 3;
+        this.bits = bits;
+    }
+    
+    public static QrBitmap blank(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("QR size must be between 1 and " + MAX_SIZE);
+        }
+        return new QrBitmap(size, new byte[((size + 7) >>> 3) * size]);
+    }
+    
+    /**
+     * Reads the form written by {@link #toBytes()}.
+     */
+    public static QrBitmap fromBytes(byte[] data) {
+        int size = data[0] & 0xFF;
+        QrBitmap bitmap = blank(size);
+        if (data.length != 1 + bitmap.bits.length) {
+            throw new IllegalArgumentException("Corrupt QR bitmap of " + data.length + " bytes");
+        }
+        System.arraycopy(data, 1, bitmap.bits, 0, bitmap.bits.length);
+        return bitmap;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public boolean get(int x, int y) {
+        return (bits[y * stride + (x >>> 3)] & (0x80 >>> (x & 7))) != 0;
+    }
+    
+    public void set(int x, int y) {
+        bits[y * stride + (x >>> 3)] |= (byte) (0x80 >>> (x & 7));
+    }
+    
+    /**
+     * One size byte followed by the padded rows.
+     */
+    public byte[] toBytes() {
+        byte[] data = new byte[1 + bits.length];
+        data[0] = (byte) size;
+        System.arraycopy(bits, 0, data, 1, bits.length);
+        return data;
+    }
+    
+    public int getSerializedLength() {
+        return 1 + bits.length;
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof QrBitmap bitmap && size == bitmap.size && Arrays.equals(bits, bitmap.bits);
+    }
+    
+    @Override
+    public int hashCode() {
+        return 31 * size + Arrays.hashCode(bits);
+    }
+}
\ No newline at end of file
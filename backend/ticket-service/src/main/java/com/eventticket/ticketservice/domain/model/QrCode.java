@@ -0,0 +1,10 @@
+package com.eventticket.ticketservice.domain.model;
+
+import java.util.UUID;
+
+/**
+ * The QR symbol of a ticket together with an entity tag derived from its content and the user
+ * who owns the ticket.
+ */
+public record QrCode(String ticketNumber, UUID ownerId, QrBitmap bitmap, String etag) {
+}
\ No newline at end of file
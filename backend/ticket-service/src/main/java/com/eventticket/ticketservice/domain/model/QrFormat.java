@@ -0,0 +1,16 @@
+package com.eventticket.ticketservice.domain.model;
+
+public enum QrFormat {
+    PNG("image/png"),
+    SVG("image/svg+xml");
+    
+    private final String contentType;
+    
+    QrFormat(String contentType) {
+        this.contentType = contentType;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.eventticket.ticketservice.domain.model;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Revocations a gate has not seen yet: either the whole filter, or the IDs revoked since the
+ * version the gate already holds.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevocationUpdate {
+    
+    private UUID eventId;
+    private long version;
+    private boolean full;
+    
+    // Serialized LongBloomFilter when full, otherwise null
+    private byte[] filter;
+    private List<Long> revokedTicketIds;
+}
\ No newline at end of file
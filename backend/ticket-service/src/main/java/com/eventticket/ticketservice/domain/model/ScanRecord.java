@@ -0,0 +1,7 @@
+package com.eventticket.ticketservice.domain.model;
+
+/**
+ * One admitted scan, as reported by a gate.
+ */
+public record ScanRecord(long ticketId, String gateId, long scannedAtMillis) {
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.eventticket.ticketservice.domain.model;
+
+public enum ScanResult {
+    ADMIT,
+    /** Malformed payload or bad signature. */
+    INVALID,
+    /** Validly signed, but for another event. */
+    WRONG_EVENT,
+    /** Listed in the revocation filter; may be a false positive, so check online or manually. */
+    REVOKED,
+    ALREADY_SCANNED
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.eventticket.ticketservice.domain.model;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScanSyncResult {
+    
+    private long version;
+    
+    // Tickets first admitted by other gates since the caller's last sync
+    private List<Long> scannedElsewhere;
+    
+    // Tickets in the submitted batch that had already been admitted before
+    private List<Long> duplicates;
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.eventticket.ticketservice.domain.model;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class Ticket {
+    
+    // Snowflake ID; also encoded in the ticket number
+    @EqualsAndHashCode.Include
+    private long ticketId;
+    
+    private String ticketNumber;
+    private UUID orderId;
+    private UUID userId;
+    private UUID eventId;
+    private UUID ticketTypeId;
+    private TicketStatus status;
+    private LocalDateTime issuedAt;
+    
+    public boolean isValid() {
+        return TicketStatus.ISSUED.equals(status);
+    }
+    
+    public enum TicketStatus {
+        ISSUED, USED, CANCELLED, REFUNDED
+    }
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.eventticket.ticketservice.domain.port;
+
+import com.eventticket.ticketservice.domain.model.Ticket;
+
+public interface QrPayloadResolver {
+    
+    /**
+     * Returns the text to encode in the QR code of the given ticket.
+     */
+    String resolvePayload(Ticket ticket);
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.eventticket.ticketservice.domain.port;
+
+import com.eventticket.ticketservice.domain.model.GateTokenDigest;
+import com.eventticket.ticketservice.domain.model.Ticket;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TicketRepository {
+    
+    Optional<Ticket> findByTicketNumber(String ticketNumber);
+    
+    /**
+     * Inserts new tickets in one JDBC batch. Ticket IDs are assigned by the caller.
+     */
+    void insertAll(List<Ticket> tickets);
+    
+    /**
+     * Moves the ticket to {@code to} if it is still in {@code from}.
+     *
+     * @return whether the ticket was updated
+     */
+    boolean updateStatus(long ticketId, Ticket.TicketStatus from, Ticket.TicketStatus to);
+    
+    /**
+     * IDs of the event's refunded and cancelled tickets.
+     */
+    List<Long> findRevokedTicketIds(UUID eventId);
+    
+    void updateGateTokenDigest(long ticketId, byte[] digest);
+    
+    /**
+     * Gate token digests of the event's tickets that are neither refunded nor cancelled, for
+     * tickets whose token has been issued.
+     */
+    List<GateTokenDigest> findGateTokenDigests(UUID eventId);
+}
\ No newline at end of file
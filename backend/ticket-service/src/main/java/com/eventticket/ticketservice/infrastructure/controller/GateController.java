@@ -0,0 +1,64 @@
+package com.eventticket.ticketservice.infrastructure.controller;
+
+import com.eventticket.common.response.ApiResponse;
+import com.eventticket.ticketservice.application.service.GateSyncService;
+import com.eventticket.ticketservice.domain.model.AdmissionList;
+import com.eventticket.ticketservice.domain.model.RevocationUpdate;
+import com.eventticket.ticketservice.domain.model.ScanRecord;
+import com.eventticket.ticketservice.domain.model.ScanSyncResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/gates/events/{eventId}")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Gate Sync", description = "APIs for provisioning and syncing offline venue gates")
+@PreAuthorize("hasRole('GATE') or hasRole('ADMIN')")
+public class GateController {
+    
+    private final GateSyncService gateSyncService;
+    
+    @GetMapping("/key")
+    @Operation(summary = "Get gate verification key", description = "Returns the Base64 X.509 public key gates use to verify ticket signatures offline")
+    public ResponseEntity<ApiResponse<String>> getVerificationKey(@PathVariable UUID eventId) {
+        log.info("Provisioning gate verification key for event: {}", eventId);
+        
+        String key = Base64.getEncoder().encodeToString(gateSyncService.getVerificationKey());
+        
+        return ResponseEntity.ok(ApiResponse.success(key));
+    }
+    
+    @GetMapping("/revocations")
+    @Operation(summary = "Get revocations", description = "Returns the full revocation filter, or the revoked ticket IDs since the given version")
+    public ResponseEntity<ApiResponse<RevocationUpdate>> getRevocations(
+            @PathVariable UUID eventId,
+            @RequestParam(defaultValue = "-1") long since) {
+        return ResponseEntity.ok(ApiResponse.success(gateSyncService.getRevocations(eventId, since)));
+    }
+    
+    @GetMapping("/admissions")
+    @Operation(summary = "Get admissions", description = "Returns the digests of the tokens issued for the event's valid tickets, which gates admit without a signature check")
+    public ResponseEntity<ApiResponse<AdmissionList>> getAdmissions(@PathVariable UUID eventId) {
+        return ResponseEntity.ok(ApiResponse.success(gateSyncService.getAdmissions(eventId)));
+    }
+    
+    @PostMapping("/scans")
+    @Operation(summary = "Sync scans", description = "Uploads a batch of admitted scans and returns tickets admitted at other gates")
+    public ResponseEntity<ApiResponse<ScanSyncResult>> syncScans(
+            @PathVariable UUID eventId,
+            @RequestParam String gateId,
+            @RequestParam(defaultValue = "0") long since,
+            @RequestBody List<ScanRecord> scans) {
+        return ResponseEntity.ok(ApiResponse.success(gateSyncService.syncScans(eventId, gateId, since, scans)));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.eventticket.ticketservice.infrastructure.controller;
+
+import com.eventticket.common.response.ApiResponse;
+import com.eventticket.ticketservice.application.dto.BulkIssueRequest;
+import com.eventticket.ticketservice.application.dto.BulkIssueResponse;
+import com.eventticket.ticketservice.application.service.TicketIssuanceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/tickets")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Ticket Issuance", description = "APIs for issuing tickets")
+public class TicketIssuanceController {
+    
+    private final TicketIssuanceService ticketIssuanceService;
+    
+    @PostMapping("/bulk")
+    @Operation(summary = "Issue tickets in bulk", description = "Issues up to 50,000 tickets for a group order or corporate block in one call")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('ORGANIZER')")
+    public ResponseEntity<ApiResponse<BulkIssueResponse>> issueTickets(@Valid @RequestBody BulkIssueRequest request) {
+        log.info("Received bulk issuance request for {} tickets, order: {}", request.getQuantity(), request.getOrderId());
+        
+        BulkIssueResponse response = ticketIssuanceService.issueTickets(request);
+        
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "Tickets issued successfully"));
+    }
+}
\ No newline at end of file
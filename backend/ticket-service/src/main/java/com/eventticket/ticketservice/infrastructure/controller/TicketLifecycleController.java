@@ -0,0 +1,42 @@
+package com.eventticket.ticketservice.infrastructure.controller;
+
+import com.eventticket.common.response.ApiResponse;
+import com.eventticket.ticketservice.application.service.TicketLifecycleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/tickets")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Ticket Lifecycle", description = "APIs for refunding and cancelling tickets")
+@PreAuthorize("hasRole('ADMIN')")
+public class TicketLifecycleController {
+    
+    private final TicketLifecycleService ticketLifecycleService;
+    
+    @PostMapping("/{ticketNumber}/refund")
+    @Operation(summary = "Refund ticket", description = "Marks an issued ticket refunded and revokes it at the gates")
+    public ResponseEntity<ApiResponse<Void>> refundTicket(@PathVariable String ticketNumber) {
+        log.info("Received refund request for ticket: {}", ticketNumber);
+        
+        ticketLifecycleService.refundTicket(ticketNumber);
+        
+        return ResponseEntity.ok(ApiResponse.success(null, "Ticket refunded successfully"));
+    }
+    
+    @PostMapping("/{ticketNumber}/cancel")
+    @Operation(summary = "Cancel ticket", description = "Marks an issued ticket cancelled and revokes it at the gates")
+    public ResponseEntity<ApiResponse<Void>> cancelTicket(@PathVariable String ticketNumber) {
+        log.info("Received cancellation request for ticket: {}", ticketNumber);
+        
+        ticketLifecycleService.cancelTicket(ticketNumber);
+        
+        return ResponseEntity.ok(ApiResponse.success(null, "Ticket cancelled successfully"));
+    }
+}
\ No newline at end of file
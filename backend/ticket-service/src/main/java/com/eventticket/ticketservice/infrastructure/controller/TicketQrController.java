@@ -0,0 +1,63 @@
+package com.eventticket.ticketservice.infrastructure.controller;
+
+import com.eventticket.common.exception.ApiException;
+import com.eventticket.common.security.JwtPrincipal;
+import com.eventticket.ticketservice.application.service.QrCodeService;
+import com.eventticket.ticketservice.domain.model.QrCode;
+import com.eventticket.ticketservice.domain.model.QrFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/tickets")
+@RequiredArgsConstructor
+@Tag(name = "Ticket QR Codes", description = "APIs for downloading ticket QR codes")
+public class TicketQrController {
+    
+    private final QrCodeService qrCodeService;
+    
+    @GetMapping("/{ticketNumber}/qr")
+    @Operation(summary = "Get ticket QR code", description = "Returns the ticket's QR code as PNG or SVG, honouring If-None-Match")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<byte[]> getQrCode(
+            @PathVariable String ticketNumber,
+            @RequestParam(defaultValue = "png") String format,
+            @AuthenticationPrincipal JwtPrincipal caller,
+            WebRequest request) {
+        QrFormat qrFormat;
+        try {
+            qrFormat = QrFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw ApiException.badRequest("Unsupported QR format: " + format);
+        }
+        QrCode qrCode = qrCodeService.getQrCode(ticketNumber);
+        // The QR code is the ticket itself; anyone else is told it does not exist, so numbers cannot be probed
+        if (!caller.getRoles().contains("ADMIN") && !caller.getUserId().equals(qrCode.ownerId())) {
+            throw ApiException.notFound("Ticket not found: " + ticketNumber);
+        }
+        
+        // The symbol never changes for a ticket, so a matching tag skips rendering entirely
+        String etag = "\"" + qrCode.etag() + "-" + qrFormat.name().toLowerCase(Locale.ROOT) + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(qrFormat.getContentType()))
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePrivate())
+                .header(HttpHeaders.ETAG, etag)
+                .body(qrCodeService.render(qrCode, qrFormat));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.eventticket.ticketservice.infrastructure.gate;
+
+import com.eventticket.ticketservice.domain.model.GateToken;
+import com.eventticket.ticketservice.util.GateTokenCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Signs gate tokens with the Ed25519 key pair configured as Base64 PKCS#8 and X.509. The private
+ * key never leaves the server; gates are provisioned with the public key only, so a lost or
+ * tampered gate can check tickets but never forge them.
+ */
+@Component
+public class GateTokenService {
+    
+    private final PrivateKey signingKey;
+    private final PublicKey verificationKey;
+    
+    public GateTokenService(
+            @Value("${app.gate.signing.private-key}") String privateKey,
+            @Value("${app.gate.signing.public-key}") String publicKey) {
+        this.signingKey = GateTokenCodec.toPrivateKey(Base64.getDecoder().decode(privateKey));
+        this.verificationKey = GateTokenCodec.toPublicKey(Base64.getDecoder().decode(publicKey));
+        
+        // A mismatched pair would only show up at the gates, as every ticket scanning invalid
+        GateToken probe = new GateToken(0, new UUID(0, 0), new UUID(0, 0));
+        boolean matches = GateTokenCodec.toBytes(GateTokenCodec.encode(probe, signingKey))
+                .flatMap(data -> GateTokenCodec.verify(data, verificationKey))
+                .isPresent();
+        if (!matches) {
+            throw new IllegalStateException("app.gate.signing.public-key does not match the private key");
+        }
+    }
+    
+    public String sign(GateToken token) {
+        return GateTokenCodec.encode(token, signingKey);
+    }
+    
+    /**
+     * The X.509-encoded public key a gate needs to validate tickets offline.
+     */
+    public byte[] getVerificationKey() {
+        return verificationKey.getEncoded();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.eventticket.ticketservice.infrastructure.gate;
+
+import com.eventticket.ticketservice.application.service.GateSyncService;
+import com.eventticket.ticketservice.domain.model.AdmissionList;
+import com.eventticket.ticketservice.domain.model.GateTokenDigest;
+import com.eventticket.ticketservice.domain.model.RevocationUpdate;
+import com.eventticket.ticketservice.domain.model.ScanRecord;
+import com.eventticket.ticketservice.domain.model.ScanSyncResult;
+import com.eventticket.ticketservice.domain.port.TicketRepository;
+import com.eventticket.ticketservice.util.LongBloomFilter;
+import com.eventticket.ticketservice.util.TokenDigestSet;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps each event's revocation filter and scan log in memory.
+ *
+ * <p>Revocations are versioned by position in an append-only log, so a gate that already holds
+ * version {@code n} only receives the IDs after it. When an event outgrows its filter's expected
+ * size the filter is rebuilt twice as large, and gates older than the rebuild get the full filter
+ * again.</p>
+ *
+ * <p>The durable record of a revocation is the ticket's refunded or cancelled status. An event's
+ * log is rebuilt from those statuses the first time it is needed after a start, and counts as a
+ * rebuild, so gates holding an older version of it fetch the full filter.</p>
+ */
+@Service
+@Slf4j
+public class InMemoryGateSyncService implements GateSyncService {
+    
+    private final GateTokenService gateTokenService;
+    private final TicketRepository ticketRepository;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+    private final Map<UUID, EventGateState> events = new ConcurrentHashMap<>();
+    
+    private final Counter duplicateScans;
+    
+    public InMemoryGateSyncService(
+            GateTokenService gateTokenService,
+            TicketRepository ticketRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.gate.revocations.expected-per-event:10000}") long expectedRevocations,
+            @Value("${app.gate.revocations.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.gateTokenService = gateTokenService;
+        this.ticketRepository = ticketRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.duplicateScans = Counter.builder("gate.scans.duplicates")
+                .description("Tickets admitted more than once across gates")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public byte[] getVerificationKey() {
+        return gateTokenService.getVerificationKey();
+    }
+    
+    @Override
+    public void revoke(UUID eventId, long ticketId) {
+        stateOf(eventId).revoke(ticketId);
+    }
+    
+    @Override
+    public RevocationUpdate getRevocations(UUID eventId, long sinceVersion) {
+        return stateOf(eventId).revocationsSince(eventId, sinceVersion);
+    }
+    
+    // Read from the tickets table on each call; gates fetch it at provisioning and on refresh only
+    @Override
+    public AdmissionList getAdmissions(UUID eventId) {
+        List<GateTokenDigest> digests = ticketRepository.findGateTokenDigests(eventId);
+        TokenDigestSet set = TokenDigestSet.create(digests.size());
+        digests.forEach(digest -> set.add(digest.ticketId(), digest.digest()));
+        return AdmissionList.builder()
+                .eventId(eventId)
+                .ticketCount(set.size())
+                .digests(set.toBytes())
+                .build();
+    }
+    
+    @Override
+    public ScanSyncResult syncScans(UUID eventId, String gateId, long sinceVersion, List<ScanRecord> scans) {
+        ScanSyncResult result = stateOf(eventId).sync(gateId, sinceVersion, scans);
+        if (!result.getDuplicates().isEmpty()) {
+            log.warn("Gate {} admitted {} already scanned tickets for event {}", gateId, result.getDuplicates().size(), eventId);
+            duplicateScans.increment(result.getDuplicates().size());
+        }
+        return result;
+    }
+    
+    private EventGateState stateOf(UUID eventId) {
+        return events.computeIfAbsent(eventId, id -> new EventGateState(ticketRepository.findRevokedTicketIds(id)));
+    }
+    
+    private final class EventGateState {
+        
+        private final List<Long> revocationLog = new ArrayList<>();
+        private final Set<Long> revoked = new HashSet<>();
+        private long filterCapacity = expectedRevocations;
+        private LongBloomFilter filter;
+        private long filterRebuiltAt;
+        
+        EventGateState(List<Long> persistedRevocations) {
+            while (filterCapacity < persistedRevocations.size()) {
+                filterCapacity *= 2;
+            }
+            filter = LongBloomFilter.create(filterCapacity, falsePositiveRate);
+            for (Long ticketId : persistedRevocations) {
+                if (revoked.add(ticketId)) {
+                    revocationLog.add(ticketId);
+                    filter.add(ticketId);
+                }
+            }
+            filterRebuiltAt = revocationLog.size();
+        }
+        
+        private final Map<Long, ScanRecord> firstScans = new HashMap<>();
+        private final List<Long> scanLog = new ArrayList<>();
+        
+        synchronized void revoke(long ticketId) {
+            // Already in the log when the ticket was revoked before this state was loaded
+            if (!revoked.add(ticketId)) {
+                return;
+            }
+            revocationLog.add(ticketId);
+            if (revocationLog.size() > filterCapacity) {
+                filterCapacity *= 2;
+                filter = LongBloomFilter.create(filterCapacity, falsePositiveRate);
+                revocationLog.forEach(filter::add);
+                filterRebuiltAt = revocationLog.size();
+            } else {
+                filter.add(ticketId);
+            }
+        }
+        
+        synchronized RevocationUpdate revocationsSince(UUID eventId, long sinceVersion) {
+            long version = revocationLog.size();
+            if (sinceVersion < 0 || sinceVersion < filterRebuiltAt || sinceVersion > version) {
+                return RevocationUpdate.builder()
+                        .eventId(eventId)
+                        .version(version)
+                        .full(true)
+                        .filter(filter.toBytes())
+                        .revokedTicketIds(List.of())
+                        .build();
+            }
+            return RevocationUpdate.builder()
+                    .eventId(eventId)
+                    .version(version)
+                    .full(false)
+                    .revokedTicketIds(List.copyOf(revocationLog.subList((int) sinceVersion, (int) version)))
+                    .build();
+        }
+        
+        synchronized ScanSyncResult sync(String gateId, long sinceVersion, List<ScanRecord> scans) {
+            List<Long> scannedElsewhere = new ArrayList<>();
+            int from = (int) Math.max(0, Math.min(sinceVersion, scanLog.size()));
+            for (Long ticketId : scanLog.subList(from, scanLog.size())) {
+                if (!gateId.equals(firstScans.get(ticketId).gateId())) {
+                    scannedElsewhere.add(ticketId);
+                }
+            }
+            
+            List<Long> duplicates = new ArrayList<>();
+            for (ScanRecord scan : scans) {
+                if (firstScans.putIfAbsent(scan.ticketId(), scan) == null) {
+                    scanLog.add(scan.ticketId());
+                } else {
+                    duplicates.add(scan.ticketId());
+                }
+            }
+            
+            return ScanSyncResult.builder()
+                    .version(scanLog.size())
+                    .scannedElsewhere(scannedElsewhere)
+                    .duplicates(duplicates)
+                    .build();
+        }
+    }
+}
\ No newline at end of file
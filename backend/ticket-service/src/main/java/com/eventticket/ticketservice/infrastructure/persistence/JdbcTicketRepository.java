@@ -0,0 +1,88 @@
+package com.eventticket.ticketservice.infrastructure.persistence;
+
+import com.eventticket.ticketservice.domain.model.GateTokenDigest;
+import com.eventticket.ticketservice.domain.model.Ticket;
+import com.eventticket.ticketservice.domain.port.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Ticket persistence over plain JDBC. IDs are Snowflake IDs assigned before the insert, so batches
+ * go out as a single multi-row round trip with no generated-key read back per row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcTicketRepository implements TicketRepository {
+    
+    private static final String INSERT = "INSERT INTO tickets "
+            + "(ticket_id, ticket_number, order_id, user_id, event_id, ticket_type_id, status, issued_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final RowMapper<Ticket> ROW_MAPPER = (rs, rowNum) -> Ticket.builder()
+            .ticketId(rs.getLong("ticket_id"))
+            .ticketNumber(rs.getString("ticket_number"))
+            .orderId(UUID.fromString(rs.getString("order_id")))
+            .userId(UUID.fromString(rs.getString("user_id")))
+            .eventId(UUID.fromString(rs.getString("event_id")))
+            .ticketTypeId(UUID.fromString(rs.getString("ticket_type_id")))
+            .status(Ticket.TicketStatus.valueOf(rs.getString("status")))
+            .issuedAt(rs.getTimestamp("issued_at").toLocalDateTime())
+            .build();
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public Optional<Ticket> findByTicketNumber(String ticketNumber) {
+        return jdbcTemplate.query("SELECT * FROM tickets WHERE ticket_number = ?", ROW_MAPPER, ticketNumber)
+                .stream()
+                .findFirst();
+    }
+    
+    @Override
+    public void insertAll(List<Ticket> tickets) {
+        jdbcTemplate.batchUpdate(INSERT, tickets, tickets.size(), (ps, ticket) -> {
+            ps.setLong(1, ticket.getTicketId());
+            ps.setString(2, ticket.getTicketNumber());
+            ps.setString(3, ticket.getOrderId().toString());
+            ps.setString(4, ticket.getUserId().toString());
+            ps.setString(5, ticket.getEventId().toString());
+            ps.setString(6, ticket.getTicketTypeId().toString());
+            ps.setString(7, ticket.getStatus().name());
+            ps.setTimestamp(8, Timestamp.valueOf(ticket.getIssuedAt()));
+        });
+    }
+    
+    @Override
+    public boolean updateStatus(long ticketId, Ticket.TicketStatus from, Ticket.TicketStatus to) {
+        return jdbcTemplate.update("UPDATE tickets SET status = ? WHERE ticket_id = ? AND status = ?",
+                to.name(), ticketId, from.name()) == 1;
+    }
+    
+    @Override
+    public List<Long> findRevokedTicketIds(UUID eventId) {
+        return jdbcTemplate.queryForList(
+                "SELECT ticket_id FROM tickets WHERE event_id = ? AND status IN (?, ?) ORDER BY ticket_id",
+                Long.class, eventId.toString(), Ticket.TicketStatus.REFUNDED.name(), Ticket.TicketStatus.CANCELLED.name());
+    }
+    
+    @Override
+    public void updateGateTokenDigest(long ticketId, byte[] digest) {
+        jdbcTemplate.update("UPDATE tickets SET gate_token_digest = ? WHERE ticket_id = ?", digest, ticketId);
+    }
+    
+    @Override
+    public List<GateTokenDigest> findGateTokenDigests(UUID eventId) {
+        return jdbcTemplate.query(
+                "SELECT ticket_id, gate_token_digest FROM tickets "
+                        + "WHERE event_id = ? AND status NOT IN (?, ?) AND gate_token_digest IS NOT NULL",
+                (rs, rowNum) -> new GateTokenDigest(rs.getLong("ticket_id"), rs.getBytes("gate_token_digest")),
+                eventId.toString(), Ticket.TicketStatus.REFUNDED.name(), Ticket.TicketStatus.CANCELLED.name());
+    }
+}
\ No newline at end of file
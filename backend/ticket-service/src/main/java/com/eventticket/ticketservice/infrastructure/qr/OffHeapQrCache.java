@@ -0,0 +1,119 @@
+package com.eventticket.ticketservice.infrastructure.qr;
+
+import com.eventticket.ticketservice.domain.model.QrBitmap;
+import com.eventticket.ticketservice.domain.model.QrCode;
+import com.eventticket.ticketservice.util.GateTokenCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * LRU cache of QR bitmaps kept outside the Java heap.
+ *
+ * <p>One direct buffer is cut into fixed-size slots; each entry occupies one slot and only its slot
+ * index, length, ETag and owner live on the heap. Memory use is therefore fixed at {@code capacity} no
+ * matter how many tickets are issued, and the bitmaps add nothing to GC marking work.</p>
+ *
+ * <p>Unless configured, slots are sized to the largest gate token symbol at the encoder's error
+ * correction level, from 271 bytes at L to 586 at H, so every code fits.</p>
+ */
+@Component
+public class OffHeapQrCache {
+    
+    private final ByteBuffer arena;
+    private final int slotBytes;
+    private final int[] freeSlots;
+    private int freeCount;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(1024, 0.75f, true);
+    
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    
+    public OffHeapQrCache(
+            MeterRegistry meterRegistry,
+            QrEncoder encoder,
+            @Value("${app.qr.cache.capacity:64MB}") DataSize capacity,
+            @Value("${app.qr.cache.slot-bytes:0}") int configuredSlotBytes) {
+        int slotBytes = configuredSlotBytes > 0
+                ? configuredSlotBytes
+                : encoder.maxSerializedLength(GateTokenCodec.PAYLOAD_LENGTH);
+        int slots = (int) Math.min(Integer.MAX_VALUE / slotBytes, capacity.toBytes() / slotBytes);
+        this.arena = ByteBuffer.allocateDirect(slots * slotBytes);
+        this.slotBytes = slotBytes;
+        this.freeSlots = new int[slots];
+        for (int i = 0; i < slots; i++) {
+            freeSlots[i] = slots - 1 - i;
+        }
+        this.freeCount = slots;
+        
+        this.hits = Counter.builder("qr.cache.hits").register(meterRegistry);
+        this.misses = Counter.builder("qr.cache.misses").register(meterRegistry);
+        this.evictions = Counter.builder("qr.cache.evictions").register(meterRegistry);
+        Gauge.builder("qr.cache.entries", this, OffHeapQrCache::size).register(meterRegistry);
+    }
+    
+    public synchronized Optional<QrCode> get(String ticketNumber) {
+        Entry entry = entries.get(ticketNumber);
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        byte[] data = new byte[entry.length()];
+        arena.get(entry.slot() * slotBytes, data);
+        return Optional.of(new QrCode(ticketNumber, entry.ownerId(), QrBitmap.fromBytes(data), entry.etag()));
+    }
+    
+    /**
+     * Stores the code, evicting the least recently used entry if no slot is free. Bitmaps larger
+     * than a slot are not cached.
+     */
+    public synchronized boolean put(QrCode qrCode) {
+        byte[] data = qrCode.bitmap().toBytes();
+        if (data.length > slotBytes) {
+            return false;
+        }
+        
+        Entry existing = entries.remove(qrCode.ticketNumber());
+        int slot;
+        if (existing != null) {
+            slot = existing.slot();
+        } else if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            slot = eldest.next().getValue().slot();
+            eldest.remove();
+            evictions.increment();
+        }
+        
+        arena.put(slot * slotBytes, data);
+        entries.put(qrCode.ticketNumber(), new Entry(slot, data.length, qrCode.etag(), qrCode.ownerId()));
+        return true;
+    }
+    
+    public synchronized void evict(String ticketNumber) {
+        Entry entry = entries.remove(ticketNumber);
+        if (entry != null) {
+            freeSlots[freeCount++] = entry.slot();
+        }
+    }
+    
+    public synchronized int size() {
+        return entries.size();
+    }
+    
+    private record Entry(int slot, int length, String etag, UUID ownerId) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.eventticket.ticketservice.infrastructure.qr;
+
+import com.eventticket.common.exception.ApiException;
+import com.eventticket.ticketservice.application.service.QrCodeService;
+import com.eventticket.ticketservice.domain.model.QrBitmap;
+import com.eventticket.ticketservice.domain.model.QrCode;
+import com.eventticket.ticketservice.domain.model.QrFormat;
+import com.eventticket.ticketservice.domain.model.Ticket;
+import com.eventticket.ticketservice.domain.port.QrPayloadResolver;
+import com.eventticket.ticketservice.domain.port.TicketRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+/**
+ * Generates QR codes on a bounded worker pool right after issuance and serves them from the
+ * {@link OffHeapQrCache}. When the pool's queue is full the task is dropped rather than slowing
+ * issuance down; the code is then generated on the first download instead.
+ */
+@Service
+@Slf4j
+public class PrerenderingQrCodeService implements QrCodeService {
+    
+    private final TicketRepository ticketRepository;
+    private final QrPayloadResolver payloadResolver;
+    private final QrEncoder encoder;
+    private final QrRenderer renderer;
+    private final OffHeapQrCache cache;
+    private final ThreadPoolExecutor workers;
+    
+    private final Timer encodeLatency;
+    private final Counter dropped;
+    
+    public PrerenderingQrCodeService(
+            TicketRepository ticketRepository,
+            QrPayloadResolver payloadResolver,
+            QrEncoder encoder,
+            QrRenderer renderer,
+            OffHeapQrCache cache,
+            MeterRegistry meterRegistry,
+            @Value("${app.qr.workers:2}") int workerCount,
+            @Value("${app.qr.queue-capacity:50000}") int queueCapacity) {
+        this.ticketRepository = ticketRepository;
+        this.payloadResolver = payloadResolver;
+        this.encoder = encoder;
+        this.renderer = renderer;
+        this.cache = cache;
+        this.encodeLatency = Timer.builder("qr.encode.latency").register(meterRegistry);
+        this.dropped = Counter.builder("qr.pregeneration.dropped").register(meterRegistry);
+        
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "qr-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, executor) -> dropped.increment());
+    }
+    
+    @PreDestroy
+    public void stop() {
+        workers.shutdownNow();
+    }
+    
+    @Override
+    public void scheduleGeneration(String ticketNumber) {
+        workers.execute(() -> {
+            try {
+                generate(ticketNumber);
+            } catch (RuntimeException e) {
+                log.warn("QR pre-generation failed for ticket {}", ticketNumber, e);
+            }
+        });
+    }
+    
+    @Override
+    public QrCode getQrCode(String ticketNumber) {
+        return cache.get(ticketNumber).orElseGet(() -> generate(ticketNumber));
+    }
+    
+    @Override
+    public byte[] render(QrCode qrCode, QrFormat format) {
+        return switch (format) {
+            case PNG -> renderer.toPng(qrCode.bitmap());
+            case SVG -> renderer.toSvg(qrCode.bitmap());
+        };
+    }
+    
+    private QrCode generate(String ticketNumber) {
+        Ticket ticket = ticketRepository.findByTicketNumber(ticketNumber)
+                .orElseThrow(() -> ApiException.notFound("Ticket not found: " + ticketNumber));
+        long start = System.nanoTime();
+        QrBitmap bitmap = encoder.encode(payloadResolver.resolvePayload(ticket));
+        encodeLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        
+        QrCode qrCode = new QrCode(ticketNumber, ticket.getUserId(), bitmap, etagOf(bitmap));
+        cache.put(qrCode);
+        return qrCode;
+    }
+    
+    private static String etagOf(QrBitmap bitmap) {
+        CRC32 crc = new CRC32();
+        crc.update(bitmap.toBytes());
+        return Long.toHexString(crc.getValue());
+    }
+}
\ No newline at end of file
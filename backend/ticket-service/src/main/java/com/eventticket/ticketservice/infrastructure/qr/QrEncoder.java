@@ -0,0 +1,57 @@
+package com.eventticket.ticketservice.infrastructure.qr;
+
+import com.eventticket.ticketservice.domain.model.QrBitmap;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import com.google.zxing.qrcode.encoder.Encoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Encodes payloads with ZXing's QR {@link Encoder} directly, taking the module matrix as is instead
+ * of scaling it into a {@code BitMatrix} and a {@code BufferedImage}.
+ */
+@Component
+public class QrEncoder {
+    
+    private final ErrorCorrectionLevel errorCorrection;
+    private final Map<EncodeHintType, Object> hints = Map.of(EncodeHintType.CHARACTER_SET, "ISO-8859-1");
+    
+    public QrEncoder(@Value("${app.qr.error-correction:M}") ErrorCorrectionLevel errorCorrection) {
+        this.errorCorrection = errorCorrection;
+    }
+    
+    public QrBitmap encode(String payload) {
+        ByteMatrix matrix;
+        try {
+            matrix = Encoder.encode(payload, errorCorrection, hints).getMatrix();
+        } catch (WriterException e) {
+            throw new IllegalArgumentException("Cannot encode QR payload of length " + payload.length(), e);
+        }
+        
+        QrBitmap bitmap = QrBitmap.blank(matrix.getWidth());
+        byte[][] modules = matrix.getArray();
+        for (int y = 0; y < modules.length; y++) {
+            byte[] row = modules[y];
+            for (int x = 0; x < row.length; x++) {
+                if (row[x] == 1) {
+                    bitmap.set(x, y);
+                }
+            }
+        }
+        return bitmap;
+    }
+    
+    /**
+     * Serialized bitmap length of the largest symbol a payload of {@code payloadLength} characters
+     * can need at this encoder's error correction level; byte mode, which mixed-case payloads
+     * always use, needs the most room.
+     */
+    public int maxSerializedLength(int payloadLength) {
+        return encode("a".repeat(payloadLength)).getSerializedLength();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.eventticket.ticketservice.infrastructure.qr;
+
+import com.eventticket.ticketservice.domain.model.QrBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Renders {@link QrBitmap}s straight to SVG text or a 1-bit grayscale PNG, without going through
+ * {@code BufferedImage} and ImageIO.
+ */
+@Component
+public class QrRenderer {
+    
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    
+    private final int quietZone;
+    private final int pngScale;
+    
+    public QrRenderer(
+            @Value("${app.qr.quiet-zone:4}") int quietZone,
+            @Value("${app.qr.png-scale:8}") int pngScale) {
+        this.quietZone = quietZone;
+        this.pngScale = pngScale;
+    }
+    
+    /**
+     * One path made of a rectangle per horizontal run of dark modules.
+     */
+    public byte[] toSvg(QrBitmap bitmap) {
+        int size = bitmap.getSize();
+        int dimension = size + 2 * quietZone;
+        StringBuilder svg = new StringBuilder(256 + size * size * 2);
+        svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 ").append(dimension).append(' ').append(dimension)
+                .append("\" shape-rendering=\"crispEdges\"><rect width=\"100%\" height=\"100%\" fill=\"#fff\"/><path fill=\"#000\" d=\"");
+        for (int y = 0; y < size; y++) {
+            int x = 0;
+            while (x < size) {
+                if (!bitmap.get(x, y)) {
+                    x++;
+                    continue;
+                }
+                int start = x;
+                while (x < size && bitmap.get(x, y)) {
+                    x++;
+                }
+                int run = x - start;
+                svg.append('M').append(start + quietZone).append(' ').append(y + quietZone)
+                        .append('h').append(run).append("v1h-").append(run).append('z');
+            }
+        }
+        svg.append("\"/></svg>");
+        return svg.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+    
+    public byte[] toPng(QrBitmap bitmap) {
+        int size = bitmap.getSize();
+        int width = (size + 2 * quietZone) * pngScale;
+        int stride = (width + 7) >>> 3;
+        
+        // Filter byte plus packed pixels per scanline; 1 is white in grayscale
+        byte[] raw = new byte[(stride + 1) * width];
+        byte[] line = new byte[stride + 1];
+        for (int y = 0; y < width; y++) {
+            int moduleY = y / pngScale - quietZone;
+            if (y % pngScale == 0) {
+                fillScanline(line, bitmap, moduleY, width);
+            }
+            System.arraycopy(line, 0, raw, y * line.length, line.length);
+        }
+        
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream idat = new ByteArrayOutputStream(raw.length / 8 + 64);
+        byte[] chunk = new byte[4096];
+        while (!deflater.finished()) {
+            idat.write(chunk, 0, deflater.deflate(chunk));
+        }
+        deflater.end();
+        
+        ByteBuffer header = ByteBuffer.allocate(13)
+                .putInt(width)
+                .putInt(width)
+                .put((byte) 1)  // bit depth
+                .put((byte) 0)  // grayscale
+                .put((byte) 0)  // deflate
+                .put((byte) 0)  // adaptive filtering, all rows use filter 0
+                .put((byte) 0); // no interlace
+        
+        ByteArrayOutputStream png = new ByteArrayOutputStream(idat.size() + 64);
+        png.writeBytes(PNG_SIGNATURE);
+        writeChunk(png, "IHDR", header.array());
+        writeChunk(png, "IDAT", idat.toByteArray());
+        writeChunk(png, "IEND", new byte[0]);
+        return png.toByteArray();
+    }
+    
+    private void fillScanline(byte[] line, QrBitmap bitmap, int moduleY, int width) {
+        Arrays.fill(line, (byte) 0xFF);
+        line[0] = 0;
+        boolean inSymbol = moduleY >= 0 && moduleY < bitmap.getSize();
+        for (int x = 0; x < width && inSymbol; x++) {
+            int moduleX = x / pngScale - quietZone;
+            if (moduleX >= 0 && moduleX < bitmap.getSize() && bitmap.get(moduleX, moduleY)) {
+                line[1 + (x >>> 3)] &= (byte) ~(0x80 >>> (x & 7));
+            }
+        }
+    }
+    
+    private static void writeChunk(ByteArrayOutputStream out, String type, byte[] data) {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+        out.writeBytes(ByteBuffer.allocate(4).putInt(data.length).array());
+        out.writeBytes(typeBytes);
+        out.writeBytes(data);
+        out.writeBytes(ByteBuffer.allocate(4).putInt((int) crc.getValue()).array());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.eventticket.ticketservice.infrastructure.qr;
+
+import com.eventticket.ticketservice.domain.model.GateToken;
+import com.eventticket.ticketservice.domain.model.Ticket;
+import com.eventticket.ticketservice.domain.port.QrPayloadResolver;
+import com.eventticket.ticketservice.domain.port.TicketRepository;
+import com.eventticket.ticketservice.infrastructure.gate.GateTokenService;
+import com.eventticket.ticketservice.util.GateTokenCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Encodes a signed {@link GateToken} so gates can validate the ticket without a lookup, and records
+ * the token's digest for the gates' admission lists.
+ */
+@Component
+@RequiredArgsConstructor
+public class SignedQrPayloadResolver implements QrPayloadResolver {
+    
+    private final GateTokenService gateTokenService;
+    private final TicketRepository ticketRepository;
+    
+    @Override
+    public String resolvePayload(Ticket ticket) {
+        String payload = gateTokenService.sign(new GateToken(ticket.getTicketId(), ticket.getEventId(), ticket.getTicketTypeId()));
+        // Signatures are deterministic, so re-rendering a code writes the same digest again
+        GateTokenCodec.toBytes(payload)
+                .ifPresent(token -> ticketRepository.updateGateTokenDigest(ticket.getTicketId(), GateTokenCodec.digest(token)));
+        return payload;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.eventticket.ticketservice.infrastructure.service;
+
+import com.eventticket.common.exception.ApiException;
+import com.eventticket.ticketservice.application.dto.BulkIssueRequest;
+import com.eventticket.ticketservice.application.dto.BulkIssueResponse;
+import com.eventticket.ticketservice.application.service.QrCodeService;
+import com.eventticket.ticketservice.application.service.TicketIssuanceService;
+import com.eventticket.ticketservice.domain.model.Ticket;
+import com.eventticket.ticketservice.domain.port.TicketRepository;
+import com.eventticket.ticketservice.util.IdBlock;
+import com.eventticket.ticketservice.util.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Issues large ticket batches in one transaction with bounded memory. IDs come from
+ * {@link SnowflakeIdGenerator#reserveBlock(int)}, one CAS per chunk. Rows are built and inserted one
+ * chunk at a time, reusing the same buffer, so only a single chunk of tickets is ever on the heap.
+ * QR codes are queued once the transaction commits, from the IDs alone.
+ */
+@Service
+@Slf4j
+public class BatchTicketIssuanceService implements TicketIssuanceService {
+    
+    private final TicketRepository ticketRepository;
+    private final SnowflakeIdGenerator idGenerator;
+    private final QrCodeService qrCodeService;
+    private final int chunkSize;
+    private final int maxQuantity;
+    
+    public BatchTicketIssuanceService(
+            TicketRepository ticketRepository,
+            SnowflakeIdGenerator idGenerator,
+            QrCodeService qrCodeService,
+            @Value("${app.tickets.bulk.chunk-size:1000}") int chunkSize,
+            @Value("${app.tickets.bulk.max-quantity:50000}") int maxQuantity) {
+        this.ticketRepository = ticketRepository;
+        this.idGenerator = idGenerator;
+        this.qrCodeService = qrCodeService;
+        this.chunkSize = Math.min(chunkSize, SnowflakeIdGenerator.MAX_BLOCK_SIZE);
+        this.maxQuantity = maxQuantity;
+    }
+    
+    @Override
+    @Transactional
+    public BulkIssueResponse issueTickets(BulkIssueRequest request) {
+        int quantity = request.getQuantity();
+        if (quantity < 1 || quantity > maxQuantity) {
+            throw ApiException.badRequest("Quantity must be between 1 and " + maxQuantity);
+        }
+        log.info("Issuing {} tickets for order: {}", quantity, request.getOrderId());
+        
+        LocalDateTime issuedAt = LocalDateTime.now();
+        long[] issuedIds = new long[quantity];
+        List<Ticket> chunk = new ArrayList<>(chunkSize);
+        int issued = 0;
+        while (issued < quantity) {
+            IdBlock block = idGenerator.reserveBlock(Math.min(chunkSize, quantity - issued));
+            for (int i = 0; i < block.getSize(); i++) {
+                long ticketId = block.get(i);
+                issuedIds[issued + i] = ticketId;
+                chunk.add(Ticket.builder()
+                        .ticketId(ticketId)
+                        .ticketNumber(SnowflakeIdGenerator.toTicketNumber(ticketId))
+                        .orderId(request.getOrderId())
+                        .userId(request.getUserId())
+                        .eventId(request.getEventId())
+                        .ticketTypeId(request.getTicketTypeId())
+                        .status(Ticket.TicketStatus.ISSUED)
+                        .issuedAt(issuedAt)
+                        .build());
+            }
+            ticketRepository.insertAll(chunk);
+            issued += chunk.size();
+            chunk.clear();
+        }
+        
+        scheduleQrCodesAfterCommit(issuedIds);
+        log.info("Issued {} tickets for order: {}", quantity, request.getOrderId());
+        
+        return BulkIssueResponse.builder()
+                .orderId(request.getOrderId())
+                .issuedCount(quantity)
+                .firstTicketNumber(SnowflakeIdGenerator.toTicketNumber(issuedIds[0]))
+                .lastTicketNumber(SnowflakeIdGenerator.toTicketNumber(issuedIds[quantity - 1]))
+                .build();
+    }
+    
+    private void scheduleQrCodesAfterCommit(long[] ticketIds) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (long ticketId : ticketIds) {
+                    qrCodeService.scheduleGeneration(SnowflakeIdGenerator.toTicketNumber(ticketId));
+                }
+            }
+        });
+    }
+}
\ No newline at end of file
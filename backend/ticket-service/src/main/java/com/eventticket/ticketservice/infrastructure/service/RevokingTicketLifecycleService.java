@@ -0,0 +1,59 @@
+package com.eventticket.ticketservice.infrastructure.service;
+
+import com.eventticket.common.exception.ApiException;
+import com.eventticket.ticketservice.application.service.GateSyncService;
+import com.eventticket.ticketservice.application.service.TicketLifecycleService;
+import com.eventticket.ticketservice.domain.model.Ticket;
+import com.eventticket.ticketservice.domain.port.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+
+/**
+ * Refunds and cancels tickets. The status change is the durable record of the revocation; the
+ * gates' revocation set is only told once it commits, so a rolled-back refund never locks a valid
+ * ticket out.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RevokingTicketLifecycleService implements TicketLifecycleService {
+    
+    private final TicketRepository ticketRepository;
+    private final GateSyncService gateSyncService;
+    
+    @Override
+    @Transactional
+    public void refundTicket(String ticketNumber) {
+        revoke(ticketNumber, Ticket.TicketStatus.REFUNDED);
+    }
+    
+    @Override
+    @Transactional
+    public void cancelTicket(String ticketNumber) {
+        revoke(ticketNumber, Ticket.TicketStatus.CANCELLED);
+    }
+    
+    private void revoke(String ticketNumber, Ticket.TicketStatus status) {
+        Ticket ticket = ticketRepository.findByTicketNumber(ticketNumber)
+                .orElseThrow(() -> ApiException.notFound("Ticket not found: " + ticketNumber));
+        // Conditional on ISSUED, so a concurrent scan, refund or cancellation wins cleanly
+        if (!ticketRepository.updateStatus(ticket.getTicketId(), Ticket.TicketStatus.ISSUED, status)) {
+            throw ApiException.conflict("Ticket " + ticketNumber + " is no longer issued and cannot be "
+                    + status.name().toLowerCase(Locale.ROOT));
+        }
+        log.info("Ticket {} of event {} marked {}", ticketNumber, ticket.getEventId(), status);
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                gateSyncService.revoke(ticket.getEventId(), ticket.getTicketId());
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.eventticket.ticketservice.util;
+
+import com.eventticket.ticketservice.domain.model.GateToken;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Binary layout of the signed gate token carried in a ticket's QR code:
+ * version (1) | ticket ID (8) | event ID (16) | ticket type ID (16) | Ed25519 signature (64),
+ * Base64url encoded to 140 characters. Tokens are signed with the server's private key and gates
+ * verify them with the public key, so nothing a gate holds can mint a ticket.
+ *
+ * <p>Ed25519 signatures are deterministic, so a ticket's token and its {@link #digest(byte[])}
+ * never change while the key stays the same.</p>
+ */
+public final class GateTokenCodec {
+    
+    public static final String SIGNATURE_ALGORITHM = "Ed25519";
+    
+    private static final byte VERSION = 2;
+    private static final int CLAIMS_LENGTH = 1 + Long.BYTES + 4 * Long.BYTES;
+    private static final int SIGNATURE_LENGTH = 64;
+    private static final int TOKEN_LENGTH = CLAIMS_LENGTH + SIGNATURE_LENGTH;
+    
+    /**
+     * Characters in an encoded token.
+     */
+    public static final int PAYLOAD_LENGTH = (TOKEN_LENGTH * 4 + 2) / 3;
+    
+    private static final ThreadLocal<MessageDigest> DIGESTS = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+    
+    private static final ThreadLocal<Signature> SIGNATURES = ThreadLocal.withInitial(() -> {
+        try {
+            return Signature.getInstance(SIGNATURE_ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(SIGNATURE_ALGORITHM + " is not available", e);
+        }
+    });
+    
+    private GateTokenCodec() {
+    }
+    
+    public static String encode(GateToken token, PrivateKey signingKey) {
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_LENGTH);
+        buffer.put(VERSION)
+                .putLong(token.ticketId())
+                .putLong(token.eventId().getMostSignificantBits())
+                .putLong(token.eventId().getLeastSignificantBits())
+                .putLong(token.ticketTypeId().getMostSignificantBits())
+                .putLong(token.ticketTypeId().getLeastSignificantBits());
+        byte[] data = buffer.array();
+        Signature signature = SIGNATURES.get();
+        try {
+            signature.initSign(signingKey);
+            signature.update(data, 0, CLAIMS_LENGTH);
+            signature.sign(data, CLAIMS_LENGTH, SIGNATURE_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Invalid gate signing key", e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(data);
+    }
+    
+    public static Optional<byte[]> toBytes(String payload) {
+        try {
+            return Optional.of(Base64.getUrlDecoder().decode(payload));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Returns the token if {@code data} is well formed and its signature matches {@code verificationKey}.
+     */
+    public static Optional<GateToken> verify(byte[] data, PublicKey verificationKey) {
+        if (!isWellFormed(data)) {
+            return Optional.empty();
+        }
+        Signature signature = SIGNATURES.get();
+        try {
+            signature.initVerify(verificationKey);
+            signature.update(data, 0, CLAIMS_LENGTH);
+            if (!signature.verify(data, CLAIMS_LENGTH, SIGNATURE_LENGTH)) {
+                return Optional.empty();
+            }
+        } catch (InvalidKeyException e) {
+            throw new IllegalArgumentException("Invalid gate verification key", e);
+        } catch (SignatureException e) {
+            return Optional.empty();
+        }
+        return Optional.of(readClaims(data));
+    }
+        
+    /**
+     * Returns the claims of a well-formed token without checking its signature, for tokens already
+     * known to be genuine, e.g. by their {@link #digest(byte[])}.
+     */
+    public static Optional<GateToken> readUnverified(byte[] data) {
+        return isWellFormed(data) ? Optional.of(readClaims(data)) : Optional.empty();
+    }
+    
+    /**
+     * The first {@value TokenDigestSet#DIGEST_LENGTH} bytes of the token's SHA-256, which identify
+     * a signed token without revealing its signature.
+     */
+    public static byte[] digest(byte[] data) {
+        byte[] hash = DIGESTS.get().digest(data);
+        byte[] digest = new byte[TokenDigestSet.DIGEST_LENGTH];
+        System.arraycopy(hash, 0, digest, 0, digest.length);
+        return digest;
+    }
+    
+    private static boolean isWellFormed(byte[] data) {
+        return data.length == TOKEN_LENGTH && data[0] == VERSION;
+    }
+    
+    private static GateToken readClaims(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data, 1, CLAIMS_LENGTH - 1);
+        long ticketId = buffer.getLong();
+        UUID eventId = new UUID(buffer.getLong(), buffer.getLong());
+        UUID ticketTypeId = new UUID(buffer.getLong(), buffer.getLong());
+        return new GateToken(ticketId, eventId, ticketTypeId);
+    }
+    
+    /**
+     * Reads a private key in its PKCS#8 encoding.
+     */
+    public static PrivateKey toPrivateKey(byte[] encoded) {
+        try {
+            return KeyFactory.getInstance(SIGNATURE_ALGORITHM).generatePrivate(new PKCS8EncodedKeySpec(encoded));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Not an " + SIGNATURE_ALGORITHM + " private key", e);
+        }
+    }
+    
+    /**
+     * Reads a public key in its X.509 encoding, as returned by {@link PublicKey#getEncoded()}.
+     */
+    public static PublicKey toPublicKey(byte[] encoded) {
+        try {
+            return KeyFactory.getInstance(SIGNATURE_ALGORITHM).generatePublic(new X509EncodedKeySpec(encoded));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Not an " + SIGNATURE_ALGORITHM + " public key", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.eventticket.ticketservice.util;
+
+import lombok.Getter;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A contiguous range of Snowflake IDs reserved by {@link SnowflakeIdGenerator#reserveBlock(int)}.
+ */
+@Getter
+public final class IdBlock {
+    
+    private final long firstId;
+    private final int size;
+    
+    IdBlock(long firstId, int size) {
+        this.firstId = firstId;
+        this.size = size;
+    }
+    
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of block of size " + size);
+        }
+        return firstId + index;
+    }
+    
+    public long getLastId() {
+        return firstId + size - 1;
+    }
+    
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private int index;
+            
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+            
+            @Override
+            public long nextLong() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return firstId + index++;
+            }
+        };
+    }
+}
\ No newline at end of file
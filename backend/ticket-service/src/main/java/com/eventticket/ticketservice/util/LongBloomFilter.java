@@ -0,0 +1,82 @@
+package com.eventticket.ticketservice.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Bloom filter over {@code long} keys such as Snowflake IDs. Probe positions come from double
+ * hashing a single 64-bit mix of the key, so a lookup does no allocation and no boxing.
+ *
+ * <p>Not thread-safe for writers; readers that need a stable view should work on a
+ * {@link #copy()}.</p>
+ */
+public final class LongBloomFilter {
+    
+    private final long[] words;
+    private final long numBits;
+    private final int numHashes;
+    
+    private LongBloomFilter(long[] words, int numHashes) {
+        this.words = words;
+        this.numBits = (long) words.length * Long.SIZE;
+        this.numHashes = numHashes;
+    }
+    
+    public static LongBloomFilter create(long expectedKeys, double falsePositiveRate) {
+        if (expectedKeys < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Expected keys must be positive and the rate between 0 and 1");
+        }
+        long bits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedKeys * Math.log(2)));
+        return new LongBloomFilter(new long[(int) ((bits + Long.SIZE - 1) / Long.SIZE)], hashes);
+    }
+    
+    public static LongBloomFilter fromBytes(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        int numHashes = buffer.getInt();
+        long[] words = new long[buffer.remaining() / Long.BYTES];
+        buffer.asLongBuffer().get(words);
+        return new LongBloomFilter(words, numHashes);
+    }
+    
+    public void add(long key) {
+        long hash = mix(key);
+        long h1 = hash & 0xFFFFFFFFL;
+        long h2 = hash >>> 32;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = (h1 + i * h2) % numBits;
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+    
+    public boolean mightContain(long key) {
+        long hash = mix(key);
+        long h1 = hash & 0xFFFFFFFFL;
+        long h2 = hash >>> 32;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = (h1 + i * h2) % numBits;
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    public LongBloomFilter copy() {
+        return new LongBloomFilter(words.clone(), numHashes);
+    }
+    
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + words.length * Long.BYTES);
+        buffer.putInt(numHashes);
+        buffer.asLongBuffer().put(words);
+        return buffer.array();
+    }
+    
+    // SplitMix64 finalizer: Snowflake IDs are sequential, so their bits must be spread first
+    static long mix(long key) {
+        long z = key + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.eventticket.ticketservice.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class SnowflakeId {
+    
+    private final long id;
+    private final Instant timestamp;
+    private final long datacenterId;
+    private final long workerId;
+    private final long sequence;
+}
\ No newline at end of file
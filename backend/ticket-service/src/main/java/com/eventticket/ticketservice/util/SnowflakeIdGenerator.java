@@ -7,6 +7,15 @@ import org.springframework.stereotype.Component;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Lock-free Snowflake ID generator.
+ *
+ * <p>The last issued timestamp and sequence are packed into a single {@link AtomicLong}
+ * ({@code timestamp << SEQUENCE_BITS | sequence}) and advanced with CAS, so concurrent
+ * callers never block on a monitor. Under the {@link ClockRegressionPolicy#BORROW} policy
+ * the generator keeps issuing IDs from a logical clock when the wall clock moves backwards
+ * or the per-millisecond sequence is exhausted, instead of throwing or spinning.</p>
+ */
 @Component
 @Slf4j
 public class SnowflakeIdGenerator {
@@ -24,16 +33,23 @@ public class SnowflakeIdGenerator {
     private static final long DATACENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
     private static final long TIMESTAMP_LEFT_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATACENTER_ID_BITS;
     
-    @Value("${app.snowflake.worker-id:1}")
-    private long workerId;
+    /**
+     * Largest block {@link #reserveBlock(int)} can hand out: one full millisecond of sequence space.
+     */
+    public static final int MAX_BLOCK_SIZE = (int) (MAX_SEQUENCE + 1);
     
-    @Value("${app.snowflake.datacenter-id:1}")
-    private long datacenterId;
+    private final long workerId;
+    private final long datacenterId;
+    private final ClockRegressionPolicy clockRegressionPolicy;
+    private final long nodeBits;
     
-    private final AtomicLong sequence = new AtomicLong(0L);
-    private long lastTimestamp = -1L;
+    // (timestamp - EPOCH) << SEQUENCE_BITS | sequence of the last issued ID
+    private final AtomicLong state = new AtomicLong(-1L);
     
-    public SnowflakeIdGenerator() {
+    public SnowflakeIdGenerator(
+            @Value("${app.snowflake.worker-id:1}") long workerId,
+            @Value("${app.snowflake.datacenter-id:1}") long datacenterId,
+            @Value("${app.snowflake.clock-regression-policy:BORROW}") ClockRegressionPolicy clockRegressionPolicy) {
         // Validate worker and datacenter IDs
         if (workerId > MAX_WORKER_ID || workerId < 0) {
             throw new IllegalArgumentException("Worker ID can't be greater than " + MAX_WORKER_ID + " or less than 0");
@@ -42,50 +58,108 @@ public class SnowflakeIdGenerator {
             throw new IllegalArgumentException("Datacenter ID can't be greater than " + MAX_DATACENTER_ID + " or less than 0");
         }
         
-        log.info("Snowflake ID Generator initialized with worker ID: {} and datacenter ID: {}", workerId, datacenterId);
+        this.workerId = workerId;
+        this.datacenterId = datacenterId;
+        this.clockRegressionPolicy = clockRegressionPolicy;
+        this.nodeBits = (datacenterId << DATACENTER_ID_SHIFT) | (workerId << WORKER_ID_SHIFT);
+        
+        log.info("Snowflake ID Generator initialized with worker ID: {}, datacenter ID: {} and clock regression policy: {}",
+                workerId, datacenterId, clockRegressionPolicy);
     }
     
-    public synchronized long nextId() {
-        long timestamp = timeGen();
-        
-        if (timestamp < lastTimestamp) {
-            throw new RuntimeException("Clock moved backwards. Refusing to generate id for " + (lastTimestamp - timestamp) + " milliseconds");
+    public long nextId() {
+        return toId(advance(1));
+    }
+    
+    /**
+     * Reserves {@code size} contiguous IDs in one CAS. All IDs in the block share the same
+     * timestamp and have consecutive sequence numbers, so they can be issued by the caller
+     * without touching the generator again.
+     */
+    public IdBlock reserveBlock(int size) {
+        if (size < 1 || size > MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException("Block size must be between 1 and " + MAX_BLOCK_SIZE);
         }
-        
-        if (lastTimestamp == timestamp) {
-            long currentSequence = sequence.incrementAndGet() & MAX_SEQUENCE;
-            if (currentSequence == 0) {
-                timestamp = tilNextMillis(lastTimestamp);
+        long last = advance(size);
+        return new IdBlock(toId(last - (size - 1)), size);
+    }
+    
+    /**
+     * Moves the packed state forward by {@code count} sequence numbers within a single
+     * millisecond and returns the packed value of the last one.
+     */
+    private long advance(int count) {
+        while (true) {
+            long current = state.get();
+            long lastTimestamp = current >> SEQUENCE_BITS;
+            long lastSequence = current & MAX_SEQUENCE;
+            long timestamp = timeGen() - EPOCH;
+            
+            long next;
+            if (timestamp > lastTimestamp) {
+                next = (timestamp << SEQUENCE_BITS) | (count - 1);
+            } else {
+                if (timestamp < lastTimestamp && clockRegressionPolicy == ClockRegressionPolicy.FAIL) {
+                    throw new IllegalStateException("Clock moved backwards. Refusing to generate id for "
+                            + (lastTimestamp - timestamp) + " milliseconds");
+                }
+                if (lastSequence + count <= MAX_SEQUENCE) {
+                    next = current + count;
+                } else if (clockRegressionPolicy == ClockRegressionPolicy.BORROW) {
+                    // Sequence exhausted: borrow the next millisecond from the logical clock
+                    next = ((lastTimestamp + 1) << SEQUENCE_BITS) | (count - 1);
+                } else {
+                    Thread.onSpinWait();
+                    continue;
+                }
+            }
+            
+            if (state.compareAndSet(current, next)) {
+                return next;
             }
-        } else {
-            sequence.set(0L);
         }
-        
-        lastTimestamp = timestamp;
-        
-        return ((timestamp - EPOCH) << TIMESTAMP_LEFT_SHIFT) |
-               (datacenterId << DATACENTER_ID_SHIFT) |
-               (workerId << WORKER_ID_SHIFT) |
-               sequence.get();
     }
     
-    private long tilNextMillis(long lastTimestamp) {
-        long timestamp = timeGen();
-        while (timestamp <= lastTimestamp) {
-            timestamp = timeGen();
-        }
-        return timestamp;
+    private long toId(long packed) {
+        return ((packed >> SEQUENCE_BITS) << TIMESTAMP_LEFT_SHIFT) | nodeBits | (packed & MAX_SEQUENCE);
     }
     
     private long timeGen() {
-        return Instant.now().toEpochMilli();
+        return System.currentTimeMillis();
     }
     
     public String generateTicketNumber() {
-        return "TKT" + nextId();
+        return toTicketNumber(nextId());
     }
     
     public String generateOrderNumber() {
-        return "ORD" + nextId();
+        return TicketNumberCodec.encode("ORD", nextId());
+    }
+    
+    /**
+     * Formats an ID taken from a reserved {@link IdBlock} as a ticket number.
+     */
+    public static String toTicketNumber(long id) {
+        return TicketNumberCodec.encode("TKT", id);
+    }
+    
+    /**
+     * Recovers the ID components from a ticket or order number without a database lookup.
+     */
+    public static SnowflakeId decode(String number) {
+        long id = TicketNumberCodec.parse(number);
+        return new SnowflakeId(
+                id,
+                Instant.ofEpochMilli((id >>> TIMESTAMP_LEFT_SHIFT) + EPOCH),
+                (id >>> DATACENTER_ID_SHIFT) & MAX_DATACENTER_ID,
+                (id >>> WORKER_ID_SHIFT) & MAX_WORKER_ID,
+                id & MAX_SEQUENCE);
+    }
+    
+    public enum ClockRegressionPolicy {
+        /** Keep issuing IDs from the last seen timestamp until the wall clock catches up. */
+        BORROW,
+        /** Throw when the clock moves backwards and spin when the sequence is exhausted. */
+        FAIL
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.eventticket.ticketservice.util;
+
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Fixed-width Crockford base32 encoding of Snowflake IDs.
+ *
+ * <p>An ID is written as 13 base32 symbols (most significant first) followed by one
+ * Crockford check symbol ({@code id mod 37}). Numbers are case-insensitive and the
+ * ambiguous letters I, L and O are read as 1, 1 and 0, which keeps them safe to type
+ * from a printed ticket or to read off a scanner.</p>
+ */
+public final class TicketNumberCodec {
+    
+    public static final int ID_LENGTH = 13;
+    public static final int ENCODED_LENGTH = ID_LENGTH + 1;
+    public static final int PREFIX_LENGTH = 3;
+    
+    private static final byte[] SYMBOLS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ*~$=U".getBytes(StandardCharsets.US_ASCII);
+    private static final int CHECK_MODULUS = 37;
+    private static final byte[] VALUES = new byte[128];
+    
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < SYMBOLS.length; i++) {
+            VALUES[SYMBOLS[i]] = (byte) i;
+            VALUES[Character.toLowerCase(SYMBOLS[i])] = (byte) i;
+        }
+        VALUES['O'] = VALUES['o'] = 0;
+        VALUES['I'] = VALUES['i'] = VALUES['L'] = VALUES['l'] = 1;
+    }
+    
+    private TicketNumberCodec() {
+    }
+    
+    /**
+     * Writes {@link #ENCODED_LENGTH} ASCII bytes for {@code id} into {@code dst} starting at {@code offset}.
+     */
+    public static void encode(long id, byte[] dst, int offset) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Cannot encode negative id " + id);
+        }
+        long value = id;
+        for (int i = offset + ID_LENGTH - 1; i >= offset; i--) {
+            dst[i] = SYMBOLS[(int) (value & 31)];
+            value >>>= 5;
+        }
+        dst[offset + ID_LENGTH] = SYMBOLS[(int) (id % CHECK_MODULUS)];
+    }
+    
+    /**
+     * Writes {@link #ENCODED_LENGTH} characters for {@code id} at the buffer's current position.
+     */
+    public static void encode(long id, CharBuffer dst) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Cannot encode negative id " + id);
+        }
+        int start = dst.position();
+        long value = id;
+        for (int i = start + ID_LENGTH - 1; i >= start; i--) {
+            dst.put(i, (char) SYMBOLS[(int) (value & 31)]);
+            value >>>= 5;
+        }
+        dst.put(start + ID_LENGTH, (char) SYMBOLS[(int) (id % CHECK_MODULUS)]);
+        dst.position(start + ENCODED_LENGTH);
+    }
+    
+    /**
+     * Builds a prefixed number such as {@code TKT0ABCD...} with a single exact-size buffer.
+     */
+    public static String encode(String prefix, long id) {
+        byte[] buffer = new byte[PREFIX_LENGTH + ENCODED_LENGTH];
+        for (int i = 0; i < PREFIX_LENGTH; i++) {
+            buffer[i] = (byte) prefix.charAt(i);
+        }
+        encode(id, buffer, PREFIX_LENGTH);
+        return new String(buffer, StandardCharsets.US_ASCII);
+    }
+    
+    /**
+     * Decodes {@link #ENCODED_LENGTH} characters starting at {@code offset} and verifies the check symbol.
+     */
+    public static long decode(CharSequence encoded, int offset) {
+        if (encoded.length() - offset != ENCODED_LENGTH) {
+            throw new IllegalArgumentException("Invalid number length: " + encoded);
+        }
+        long id = 0;
+        for (int i = offset; i < offset + ID_LENGTH; i++) {
+            int value = valueOf(encoded.charAt(i));
+            if (value > 31 || (i == offset && value > 15)) {
+                throw new IllegalArgumentException("Invalid symbol in number: " + encoded);
+            }
+            id = (id << 5) | value;
+        }
+        if (id < 0 || valueOf(encoded.charAt(offset + ID_LENGTH)) != id % CHECK_MODULUS) {
+            throw new IllegalArgumentException("Checksum mismatch for number: " + encoded);
+        }
+        return id;
+    }
+    
+    /**
+     * Recovers the Snowflake ID from a prefixed ticket or order number. Legacy numbers made of
+     * the prefix followed by the decimal ID are still accepted.
+     */
+    public static long parse(String number) {
+        if (number == null || number.length() <= PREFIX_LENGTH) {
+            throw new IllegalArgumentException("Invalid number: " + number);
+        }
+        if (number.length() != PREFIX_LENGTH + ENCODED_LENGTH) {
+            try {
+                return Long.parseLong(number, PREFIX_LENGTH, number.length(), 10);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number: " + number, e);
+            }
+        }
+        return decode(number, PREFIX_LENGTH);
+    }
+    
+    private static int valueOf(char c) {
+        int value = c < 128 ? VALUES[c] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid symbol '" + c + "'");
+        }
+        return value;
+    }
+}
\ No newline at end of file
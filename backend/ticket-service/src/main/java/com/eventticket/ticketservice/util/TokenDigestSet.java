@@ -0,0 +1,116 @@
+package com.eventticket.ticketservice.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Set of (ticket ID, token digest) pairs, open addressed over primitive arrays, so a lookup does
+ * no allocation and no boxing. Gates hold one per event to admit tokens the server has issued
+ * without checking their signature; a digest is a truncated hash of the signed token, so holding
+ * the set lets a gate recognise tokens but not produce them.
+ *
+ * <p>Not thread-safe for writers; build it fully before publishing it to readers.</p>
+ */
+public final class TokenDigestSet {
+    
+    public static final int DIGEST_LENGTH = 2 * Long.BYTES;
+    
+    private static final int ENTRY_LENGTH = Long.BYTES + DIGEST_LENGTH;
+    
+    private final long[] ticketIds;
+    private final long[] digestHigh;
+    private final long[] digestLow;
+    private final boolean[] used;
+    private final int mask;
+    private int size;
+    
+    private TokenDigestSet(int capacity) {
+        this.ticketIds = new long[capacity];
+        this.digestHigh = new long[capacity];
+        this.digestLow = new long[capacity];
+        this.used = new boolean[capacity];
+        this.mask = capacity - 1;
+    }
+    
+    /**
+     * A set with room for {@code expectedEntries}, kept at most half full.
+     */
+    public static TokenDigestSet create(int expectedEntries) {
+        int capacity = Integer.highestOneBit(Math.max(1, expectedEntries) * 2 - 1) << 1;
+        return new TokenDigestSet(Math.max(2, capacity));
+    }
+    
+    public static TokenDigestSet fromBytes(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        int entries = buffer.getInt();
+        if (buffer.remaining() != entries * ENTRY_LENGTH) {
+            throw new IllegalArgumentException("Corrupt token digest set of " + data.length + " bytes");
+        }
+        TokenDigestSet set = create(entries);
+        for (int i = 0; i < entries; i++) {
+            set.put(buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+        return set;
+    }
+    
+    /**
+     * Adds or replaces the digest of {@code ticketId}.
+     */
+    public void add(long ticketId, byte[] digest) {
+        ByteBuffer buffer = ByteBuffer.wrap(checkLength(digest));
+        put(ticketId, buffer.getLong(), buffer.getLong());
+    }
+    
+    public boolean contains(long ticketId, byte[] digest) {
+        ByteBuffer buffer = ByteBuffer.wrap(checkLength(digest));
+        int slot = find(ticketId);
+        return used[slot] && digestHigh[slot] == buffer.getLong() && digestLow[slot] == buffer.getLong();
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * The entry count followed by each ticket ID and digest; readers rebuild the table.
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + size * ENTRY_LENGTH);
+        buffer.putInt(size);
+        for (int slot = 0; slot < used.length; slot++) {
+            if (used[slot]) {
+                buffer.putLong(ticketIds[slot]).putLong(digestHigh[slot]).putLong(digestLow[slot]);
+            }
+        }
+        return buffer.array();
+    }
+    
+    private void put(long ticketId, long high, long low) {
+        int slot = find(ticketId);
+        if (!used[slot]) {
+            if (size + 1 > used.length / 2) {
+                throw new IllegalStateException("Token digest set is full at " + size + " entries");
+            }
+            used[slot] = true;
+            ticketIds[slot] = ticketId;
+            size++;
+        }
+        digestHigh[slot] = high;
+        digestLow[slot] = low;
+    }
+    
+    // Slot holding ticketId, or the empty slot where it would go
+    private int find(long ticketId) {
+        int slot = (int) LongBloomFilter.mix(ticketId) & mask;
+        while (used[slot] && ticketIds[slot] != ticketId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+    
+    private static byte[] checkLength(byte[] digest) {
+        if (digest.length != DIGEST_LENGTH) {
+            throw new IllegalArgumentException("Token digests are " + DIGEST_LENGTH + " bytes");
+        }
+        return digest;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+-- Truncated SHA-256 of the ticket's signed gate token, served to gates as their admission list
+IF OBJECT_ID('tickets', 'U') IS NOT NULL AND COL_LENGTH('tickets', 'gate_token_digest') IS NULL
+BEGIN
+    ALTER TABLE tickets ADD gate_token_digest BINARY(16) NULL;
+END
\ No newline at end of file
@@ -1,11 +1,17 @@
 package com.eventticket.userservice;
 
+import com.eventticket.common.instrumentation.EnableInstrumentation;
+import com.eventticket.common.outbox.EnableOutbox;
+import com.eventticket.common.security.EnableJwtAuthentication;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableOutbox
+@EnableJwtAuthentication
+@EnableInstrumentation
 public class UserServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,13 @@
+package com.eventticket.userservice.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdentityAvailabilityResponse {
+    private Boolean emailAvailable;
+    private Boolean usernameAvailable;
+}
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.eventticket.userservice.application.service;
 
+import com.eventticket.common.response.CursorPage;
+import com.eventticket.userservice.application.dto.IdentityAvailabilityResponse;
 import com.eventticket.userservice.application.dto.UserRegistrationRequest;
 import com.eventticket.userservice.application.dto.UserResponse;
 import com.eventticket.userservice.application.dto.UserUpdateRequest;
@@ -11,6 +13,8 @@ public interface UserService {
     
     UserResponse registerUser(UserRegistrationRequest request);
     
+    IdentityAvailabilityResponse checkAvailability(String email, String username);
+    
     UserResponse getUserById(UUID userId);
     
     UserResponse getUserByEmail(String email);
@@ -19,6 +23,8 @@ public interface UserService {
     
     List<UserResponse> getAllUsers(int page, int size);
     
+    CursorPage<UserResponse> getUsers(String cursor, int size);
+    
     UserResponse updateUser(UUID userId, UserUpdateRequest request);
     
     void deleteUser(UUID userId);
@@ -1,6 +1,9 @@
 package com.eventticket.userservice.infrastructure.controller;
 
+import com.eventticket.common.instrumentation.SampledLogger;
 import com.eventticket.common.response.ApiResponse;
+import com.eventticket.common.response.CursorPage;
+import com.eventticket.userservice.application.dto.IdentityAvailabilityResponse;
 import com.eventticket.userservice.application.dto.UserRegistrationRequest;
 import com.eventticket.userservice.application.dto.UserResponse;
 import com.eventticket.userservice.application.dto.UserUpdateRequest;
@@ -25,6 +28,8 @@ import java.util.UUID;
 @Tag(name = "User Management", description = "APIs for user management and registration")
 public class UserController {
     
+    private static final SampledLogger sampledLog = SampledLogger.perSecond(log, 10);
+    
     private final UserService userService;
     
     @PostMapping("/register")
@@ -38,11 +43,21 @@ public class UserController {
                 .body(ApiResponse.success(userResponse, "User registered successfully"));
     }
     
+    @GetMapping("/availability")
+    @Operation(summary = "Check email and username availability", description = "Reports whether the given email and/or username can still be registered")
+    public ResponseEntity<ApiResponse<IdentityAvailabilityResponse>> checkAvailability(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String username) {
+        IdentityAvailabilityResponse availability = userService.checkAvailability(email, username);
+        
+        return ResponseEntity.ok(ApiResponse.success(availability));
+    }
+    
     @GetMapping("/{userId}")
     @Operation(summary = "Get user by ID", description = "Retrieves user information by user ID")
     @PreAuthorize("hasRole('ADMIN') or #userId == authentication.principal.userId")
     public ResponseEntity<ApiResponse<UserResponse>> getUserById(@PathVariable UUID userId) {
-        log.info("Fetching user with ID: {}", userId);
+        sampledLog.info("Fetching user with ID: {}", userId);
         
         UserResponse userResponse = userService.getUserById(userId);
         
@@ -53,7 +68,7 @@ public class UserController {
     @Operation(summary = "Get user by email", description = "Retrieves user information by email address")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<UserResponse>> getUserByEmail(@PathVariable String email) {
-        log.info("Fetching user with email: {}", email);
+        sampledLog.info("Fetching user with email: {}", email);
         
         UserResponse userResponse = userService.getUserByEmail(email);
         
@@ -64,7 +79,7 @@ public class UserController {
     @Operation(summary = "Get user by username", description = "Retrieves user information by username")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<UserResponse>> getUserByUsername(@PathVariable String username) {
-        log.info("Fetching user with username: {}", username);
+        sampledLog.info("Fetching user with username: {}", username);
         
         UserResponse userResponse = userService.getUserByUsername(username);
         
@@ -77,13 +92,26 @@ public class UserController {
     public ResponseEntity<ApiResponse<List<UserResponse>>> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
-        log.info("Fetching users with page: {}, size: {}", page, size);
+        sampledLog.info("Fetching users with page: {}, size: {}", page, size);
         
         List<UserResponse> users = userService.getAllUsers(page, size);
         
         return ResponseEntity.ok(ApiResponse.success(users));
     }
     
+    @GetMapping("/cursor")
+    @Operation(summary = "Get users by cursor", description = "Retrieves users ordered by creation time using an opaque continuation token")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<CursorPage<UserResponse>>> getUsersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        sampledLog.info("Fetching users after cursor: {}, size: {}", cursor, size);
+        
+        CursorPage<UserResponse> users = userService.getUsers(cursor, size);
+        
+        return ResponseEntity.ok(ApiResponse.success(users));
+    }
+    
     @PutMapping("/{userId}")
     @Operation(summary = "Update user", description = "Updates user information")
     @PreAuthorize("hasRole('ADMIN') or #userId == authentication.principal.userId")
@@ -0,0 +1,7 @@
+package com.eventticket.userservice.infrastructure.repository;
+
+/**
+ * The two unique identifiers of a user, selected without loading the entity.
+ */
+public record UserIdentity(String email, String username) {
+}
\ No newline at end of file
@@ -3,11 +3,17 @@ package com.eventticket.userservice.infrastructure.repository;
 import com.eventticket.userservice.domain.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,6 +28,11 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     
     boolean existsByUsername(String username);
     
+    // Both uniqueness checks for a registration in one round trip
+    @Query("SELECT new com.eventticket.userservice.infrastructure.repository.UserIdentity(u.email, u.username) " +
+           "FROM User u WHERE u.email = :email OR u.username = :username")
+    List<UserIdentity> findIdentities(@Param("email") String email, @Param("username") String username);
+    
     @Query("SELECT u FROM User u WHERE u.isActive = true")
     Page<User> findAllActive(Pageable pageable);
     
@@ -30,4 +41,30 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     
     @Query("SELECT u FROM User u WHERE u.isVerified = :verified")
     Page<User> findByVerificationStatus(@Param("verified") boolean verified, Pageable pageable);
+    
+    @Query("SELECT u.userId FROM User u ORDER BY u.createdAt, u.userId")
+    List<UUID> findIdPage(Pageable pageable);
+    
+    // A collection fetch cannot be limited in SQL, so pages are selected by id first
+    @EntityGraph(attributePaths = "roles")
+    @Query("SELECT u FROM User u WHERE u.userId IN :userIds")
+    List<User> findAllWithRoles(@Param("userIds") Collection<UUID> userIds);
+    
+    // No rows when the user is missing or inactive; one null row when an active user has no roles
+    @Query("SELECT r.roleName FROM User u LEFT JOIN u.roles r WHERE u.userId = :userId AND u.isActive = true")
+    List<String> findActiveRoleNames(@Param("userId") UUID userId);
+    
+    // Keyset pagination on (createdAt, userId); List return types skip the COUNT query
+    @Query("SELECT u FROM User u ORDER BY u.createdAt, u.userId")
+    List<User> findFirstPage(Pageable pageable);
+    
+    @Query("SELECT u FROM User u WHERE u.createdAt > :createdAt OR (u.createdAt = :createdAt AND u.userId > :userId) " +
+           "ORDER BY u.createdAt, u.userId")
+    List<User> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("userId") UUID userId, Pageable pageable);
+    
+    // Bulk update bypasses the persistence context and auditing; callers batch ids per timestamp
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.lastLogin = :lastLogin WHERE u.userId IN :userIds")
+    int updateLastLogin(@Param("userIds") Collection<UUID> userIds, @Param("lastLogin") LocalDateTime lastLogin);
 } 
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.eventticket.userservice.infrastructure.security;
+
+import com.eventticket.common.exception.ApiException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password hashing on a fixed pool sized to the CPU rather than on request threads. BCrypt
+ * is deliberately slow, so a registration burst would otherwise occupy every servlet thread; here
+ * the work queue is bounded and callers past it are turned away with 503 instead of piling up.
+ */
+@Component
+@Slf4j
+public class PasswordHasher {
+    
+    private final PasswordEncoder passwordEncoder;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+    
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            @Value("${app.users.password-hashing.threads:0}") int threads,
+            @Value("${app.users.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.users.password-hashing.timeout:PT5S}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+    
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+    
+    public String hash(String rawPassword) {
+        Future<String> hashed;
+        try {
+            hashed = executor.submit(() -> passwordEncoder.encode(rawPassword));
+        } catch (RejectedExecutionException e) {
+            throw new ApiException("Too many registrations in progress, please retry",
+                    HttpStatus.SERVICE_UNAVAILABLE, "HASHING_BUSY");
+        }
+        
+        try {
+            return hashed.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            hashed.cancel(true);
+            throw new ApiException("Password hashing timed out, please retry",
+                    HttpStatus.SERVICE_UNAVAILABLE, "HASHING_BUSY");
+        } catch (ExecutionException e) {
+            log.error("Password hashing failed", e.getCause());
+            throw ApiException.internalServerError("Password hashing failed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            hashed.cancel(true);
+            throw ApiException.internalServerError("Password hashing was interrupted");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.eventticket.userservice.infrastructure.service;
+
+import com.eventticket.userservice.infrastructure.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces last-login timestamps in memory and writes them on an interval. Logins only touch a
+ * map entry; the flush thread groups pending users by login second and issues one
+ * {@code UPDATE ... WHERE user_id IN (...)} per group, so a login storm costs a few statements
+ * per flush. At most one flush interval of logins is lost if the process dies.
+ */
+@Component
+@Slf4j
+public class LastLoginRecorder {
+    
+    // SQL Server accepts at most 2100 parameters per statement
+    private static final int MAX_IDS_PER_UPDATE = 2000;
+    
+    private final UserRepository userRepository;
+    private final Duration flushInterval;
+    private final ConcurrentHashMap<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+    
+    private final Counter recorded;
+    private final Counter written;
+    private final DistributionSummary statements;
+    
+    private ScheduledExecutorService flusher;
+    
+    public LastLoginRecorder(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.users.last-login.flush-interval:PT1S}") Duration flushInterval) {
+        this.userRepository = userRepository;
+        this.flushInterval = flushInterval;
+        
+        this.recorded = Counter.builder("users.last_login.recorded").register(meterRegistry);
+        this.written = Counter.builder("users.last_login.written").register(meterRegistry);
+        this.statements = DistributionSummary.builder("users.last_login.flush.statements").register(meterRegistry);
+        meterRegistry.gauge("users.last_login.pending", pending, Map::size);
+    }
+    
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "last-login-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        flush();
+    }
+    
+    public void record(UUID userId) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        pending.merge(userId, now, (previous, current) -> current.isAfter(previous) ? current : previous);
+        recorded.increment();
+    }
+    
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        
+        // Take each entry only if no newer login replaced it while we were collecting
+        Map<LocalDateTime, List<UUID>> bySecond = new HashMap<>();
+        for (Map.Entry<UUID, LocalDateTime> entry : pending.entrySet()) {
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                bySecond.computeIfAbsent(entry.getValue(), second -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+        
+        int issued = 0;
+        for (Map.Entry<LocalDateTime, List<UUID>> group : bySecond.entrySet()) {
+            List<UUID> userIds = group.getValue();
+            for (int from = 0; from < userIds.size(); from += MAX_IDS_PER_UPDATE) {
+                List<UUID> chunk = userIds.subList(from, Math.min(from + MAX_IDS_PER_UPDATE, userIds.size()));
+                try {
+                    userRepository.updateLastLogin(chunk, group.getKey());
+                    written.increment(chunk.size());
+                    issued++;
+                } catch (RuntimeException e) {
+                    log.warn("Failed to write last login for {} users, retrying on next flush", chunk.size(), e);
+                    for (UUID userId : chunk) {
+                        pending.merge(userId, group.getKey(), (current, failed) -> current.isAfter(failed) ? current : failed);
+                    }
+                }
+            }
+        }
+        statements.record(issued);
+    }
+}
\ No newline at end of file
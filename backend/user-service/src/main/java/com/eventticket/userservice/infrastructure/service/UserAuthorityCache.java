@@ -0,0 +1,120 @@
+package com.eventticket.userservice.infrastructure.service;
+
+import com.eventticket.common.security.JwtPrincipal;
+import com.eventticket.common.security.JwtPrincipalResolver;
+import com.eventticket.userservice.infrastructure.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Granted authorities per user, as {@code ROLE_<name>}, for the security layer's
+ * {@code hasRole(...)} checks. As the {@link JwtPrincipalResolver} it replaces the roles in a
+ * caller's token with their current ones, so a role change applies on the next request instead of
+ * when the token expires. Tokens of users that were deleted or deactivated are rejected.
+ *
+ * <p>Every role change bumps a version and evicts the user once its transaction commits. A load
+ * that overlaps any change discards its own result, so a slow read can never put back the roles an
+ * assignment just replaced. Role changes are rare enough that one version for all users costs
+ * nothing.</p>
+ *
+ * <p>Evictions are local to this instance; other instances pick up a change when their entry
+ * expires, so {@code ttl} bounds how long a revoked role or account stays usable there.</p>
+ */
+@Component
+public class UserAuthorityCache implements JwtPrincipalResolver {
+    
+    private static final String ROLE_PREFIX = "ROLE_";
+    
+    private final UserRepository userRepository;
+    // Empty for users that do not exist or are inactive
+    private final Cache<UUID, Optional<Set<GrantedAuthority>>> authorities;
+    private final AtomicLong version = new AtomicLong();
+    
+    public UserAuthorityCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.authorities.max-size:100000}") long maxSize,
+            @Value("${app.cache.authorities.ttl:PT30S}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.authorities = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, authorities, "user-authorities");
+    }
+    
+    /**
+     * The user's current authorities, or empty if the user does not exist or is inactive.
+     */
+    public Optional<Set<GrantedAuthority>> getAuthorities(UUID userId) {
+        Optional<Set<GrantedAuthority>> cached = authorities.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        
+        // Loaded outside the cache's compute lock, then discarded if a role change overlapped it
+        long loadedAt = version.get();
+        List<String> roleNames = userRepository.findActiveRoleNames(userId);
+        Optional<Set<GrantedAuthority>> loaded = roleNames.isEmpty() ? Optional.empty() : Optional.of(roleNames.stream()
+                .filter(Objects::nonNull)
+                .map(roleName -> (GrantedAuthority) new SimpleGrantedAuthority(ROLE_PREFIX + roleName))
+                .collect(Collectors.toUnmodifiableSet()));
+        authorities.put(userId, loaded);
+        if (version.get() != loadedAt) {
+            authorities.invalidate(userId);
+        }
+        return loaded;
+    }
+    
+    @Override
+    public JwtPrincipal resolve(JwtPrincipal fromToken) {
+        Set<GrantedAuthority> current = getAuthorities(fromToken.getUserId()).orElse(null);
+        if (current == null) {
+            return null;
+        }
+        List<String> roles = current.stream()
+                .map(authority -> authority.getAuthority().substring(ROLE_PREFIX.length()))
+                .toList();
+        return new JwtPrincipal(fromToken.getUserId(), roles, List.copyOf(current));
+    }
+    
+    /**
+     * Evicts the user once the current transaction commits, or right away outside one. Evicting
+     * before the commit would let a concurrent load cache the roles the transaction is replacing.
+     */
+    public void invalidate(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+    
+    private void evict(UUID userId) {
+        version.incrementAndGet();
+        authorities.invalidate(userId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.eventticket.userservice.infrastructure.service;
+
+import com.eventticket.userservice.domain.entity.UserRole;
+import com.eventticket.userservice.infrastructure.repository.UserRoleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Role rows by name. Roles are reference data that never change at runtime, so all of them are
+ * loaded at startup and a role added later is picked up on its first lookup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserRoleCache {
+    
+    private final UserRoleRepository userRoleRepository;
+    private final Map<String, UserRole> rolesByName = new ConcurrentHashMap<>();
+    
+    @PostConstruct
+    public void load() {
+        userRoleRepository.findAll().forEach(role -> rolesByName.put(role.getRoleName(), role));
+        log.info("Cached {} user roles", rolesByName.size());
+    }
+    
+    public Optional<UserRole> findByRoleName(String roleName) {
+        UserRole role = rolesByName.get(roleName);
+        if (role != null) {
+            return Optional.of(role);
+        }
+        Optional<UserRole> loaded = userRoleRepository.findByRoleName(roleName);
+        loaded.ifPresent(found -> rolesByName.putIfAbsent(roleName, found));
+        return loaded;
+    }
+}
\ No newline at end of file
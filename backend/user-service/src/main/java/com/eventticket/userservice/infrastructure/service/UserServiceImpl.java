@@ -1,6 +1,11 @@
 package com.eventticket.userservice.infrastructure.service;
 
 import com.eventticket.common.exception.ApiException;
+import com.eventticket.common.instrumentation.SampledLogger;
+import com.eventticket.common.outbox.OutboxWriter;
+import com.eventticket.common.response.CursorPage;
+import com.eventticket.common.utils.CursorCodec;
+import com.eventticket.userservice.application.dto.IdentityAvailabilityResponse;
 import com.eventticket.userservice.application.dto.UserRegistrationRequest;
 import com.eventticket.userservice.application.dto.UserResponse;
 import com.eventticket.userservice.application.dto.UserUpdateRequest;
@@ -8,19 +13,25 @@ import com.eventticket.userservice.application.service.UserService;
 import com.eventticket.userservice.domain.entity.User;
 import com.eventticket.userservice.domain.entity.UserRole;
 import com.eventticket.userservice.infrastructure.mapper.UserMapper;
+import com.eventticket.userservice.infrastructure.repository.UserIdentity;
 import com.eventticket.userservice.infrastructure.repository.UserRepository;
-import com.eventticket.userservice.infrastructure.repository.UserRoleRepository;
+import com.eventticket.userservice.infrastructure.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,52 +40,96 @@ import java.util.stream.Collectors;
 @Transactional
 public class UserServiceImpl implements UserService {
     
+    private static final String USER_AGGREGATE = "user";
+    private static final String DEFAULT_ROLE = "ATTENDEE";
+    
+    // Read paths run on every page view; keep their logging from dominating under load
+    private static final SampledLogger sampledLog = SampledLogger.perSecond(log, 10);
+    
     private final UserRepository userRepository;
-    private final UserRoleRepository userRoleRepository;
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final UserRoleCache userRoleCache;
+    private final UserAuthorityCache userAuthorityCache;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxWriter outboxWriter;
+    private final LastLoginRecorder lastLoginRecorder;
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse registerUser(UserRegistrationRequest request) {
         log.info("Registering new user with email: {}", request.getEmail());
         
-        // Check if user already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw ApiException.conflict("User with email " + request.getEmail() + " already exists");
-        }
-        
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw ApiException.conflict("Username " + request.getUsername() + " is already taken");
-        }
+        // Fail fast in one query; the unique constraints still settle concurrent registrations
+        ensureIdentityAvailable(request.getEmail(), request.getUsername());
         
-        // Create new user
-        User user = User.builder()
-                .username(request.getUsername())
-                .email(request.getEmail())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
-                .firstName(request.getFirstName())
-                .lastName(request.getLastName())
-                .phone(request.getPhone())
-                .dateOfBirth(request.getDateOfBirth())
-                .isActive(true)
-                .isVerified(false)
-                .build();
+        // Hash before the transaction opens so no connection is held while BCrypt runs
+        String passwordHash = passwordHasher.hash(request.getPassword());
         
         // Assign default role (ATTENDEE)
-        UserRole attendeeRole = userRoleRepository.findByRoleName("ATTENDEE")
+        UserRole attendeeRole = userRoleCache.findByRoleName(DEFAULT_ROLE)
                 .orElseThrow(() -> ApiException.internalServerError("Default role ATTENDEE not found"));
-        user.addRole(attendeeRole);
         
-        User savedUser = userRepository.save(user);
-        log.info("User registered successfully with ID: {}", savedUser.getUserId());
+        UserResponse response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                User user = User.builder()
+                        .username(request.getUsername())
+                        .email(request.getEmail())
+                        .passwordHash(passwordHash)
+                        .firstName(request.getFirstName())
+                        .lastName(request.getLastName())
+                        .phone(request.getPhone())
+                        .dateOfBirth(request.getDateOfBirth())
+                        .isActive(true)
+                        .isVerified(false)
+                        .build();
+                user.addRole(attendeeRole);
+                
+                User savedUser = userRepository.saveAndFlush(user);
+                outboxWriter.append(USER_AGGREGATE, savedUser.getUserId(), "UserRegistered",
+                        new UserRegistered(savedUser.getUserId(), savedUser.getEmail(), savedUser.getUsername(), Instant.now()));
+                return userMapper.toUserResponse(savedUser);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent registration; report which identifier was taken
+            ensureIdentityAvailable(request.getEmail(), request.getUsername());
+            // The winner may since have been renamed or deleted, but the request still collided
+            throw ApiException.conflict("Email or username is already registered");
+        }
+        
+        log.info("User registered successfully with ID: {}", response.getUserId());
         
-        return userMapper.toUserResponse(savedUser);
+        return response;
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public IdentityAvailabilityResponse checkAvailability(String email, String username) {
+        boolean checkEmail = email != null && !email.isBlank();
+        boolean checkUsername = username != null && !username.isBlank();
+        Boolean emailAvailable = null;
+        Boolean usernameAvailable = null;
+        if (checkEmail && checkUsername) {
+            // Both answers from the database in one round trip
+            emailAvailable = true;
+            usernameAvailable = true;
+            for (UserIdentity taken : userRepository.findIdentities(email, username)) {
+                emailAvailable &= !taken.email().equalsIgnoreCase(email);
+                usernameAvailable &= !taken.username().equalsIgnoreCase(username);
+            }
+        } else if (checkEmail) {
+            emailAvailable = !userRepository.existsByEmail(email);
+        } else if (checkUsername) {
+            usernameAvailable = !userRepository.existsByUsername(username);
+        }
+        return new IdentityAvailabilityResponse(emailAvailable, usernameAvailable);
     }
     
     @Override
     @Transactional(readOnly = true)
     public UserResponse getUserById(UUID userId) {
-        log.info("Fetching user by ID: {}", userId);
+        sampledLog.info("Fetching user by ID: {}", userId);
         
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> ApiException.notFound("User not found with ID: " + userId));
@@ -85,7 +140,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public UserResponse getUserByEmail(String email) {
-        log.info("Fetching user by email: {}", email);
+        sampledLog.info("Fetching user by email: {}", email);
         
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> ApiException.notFound("User not found with email: " + email));
@@ -96,7 +151,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public UserResponse getUserByUsername(String username) {
-        log.info("Fetching user by username: {}", username);
+        sampledLog.info("Fetching user by username: {}", username);
         
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> ApiException.notFound("User not found with username: " + username));
@@ -107,14 +162,44 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public List<UserResponse> getAllUsers(int page, int size) {
-        log.info("Fetching users with page: {}, size: {}", page, size);
+        sampledLog.info("Fetching users with page: {}, size: {}", page, size);
         
-        Page<User> userPage = userRepository.findAll(PageRequest.of(page, size));
-        return userPage.getContent().stream()
+        // Two statements per page: the ids, then the users with their roles in one join
+        List<UUID> userIds = userRepository.findIdPage(PageRequest.of(page, size));
+        return withRoles(userIds).stream()
                 .map(userMapper::toUserResponse)
                 .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> getUsers(String cursor, int size) {
+        sampledLog.info("Fetching users after cursor: {}, size: {}", cursor, size);
+        
+        CursorCodec.checkPageSize(size);
+        
+        // Fetch one extra row to learn whether another page follows
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<User> users;
+        if (cursor == null || cursor.isBlank()) {
+            users = userRepository.findFirstPage(limit);
+        } else {
+            CursorCodec.Position position = CursorCodec.decode(cursor);
+            users = userRepository.findPageAfter(position.timestamp(), position.id(), limit);
+        }
+        
+        String nextCursor = null;
+        if (users.size() > size) {
+            users = users.subList(0, size);
+            User last = users.get(size - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt(), last.getUserId());
+        }
+        
+        return CursorPage.of(withRoles(users.stream().map(User::getUserId).toList()).stream()
+                .map(userMapper::toUserResponse)
+                .collect(Collectors.toList()), nextCursor);
+    }
+    
     @Override
     public UserResponse updateUser(UUID userId, UserUpdateRequest request) {
         log.info("Updating user with ID: {}", userId);
@@ -151,6 +236,7 @@ public class UserServiceImpl implements UserService {
         }
         
         userRepository.deleteById(userId);
+        userAuthorityCache.invalidate(userId);
         log.info("User deleted successfully with ID: {}", userId);
     }
     
@@ -163,6 +249,7 @@ public class UserServiceImpl implements UserService {
         
         user.activate();
         userRepository.save(user);
+        userAuthorityCache.invalidate(userId);
         log.info("User activated successfully with ID: {}", userId);
     }
     
@@ -175,6 +262,7 @@ public class UserServiceImpl implements UserService {
         
         user.deactivate();
         userRepository.save(user);
+        userAuthorityCache.invalidate(userId);
         log.info("User deactivated successfully with ID: {}", userId);
     }
     
@@ -187,6 +275,7 @@ public class UserServiceImpl implements UserService {
         
         user.markAsVerified();
         userRepository.save(user);
+        outboxWriter.append(USER_AGGREGATE, userId, "UserVerified", new UserVerified(userId, Instant.now()));
         log.info("User verified successfully with ID: {}", userId);
     }
     
@@ -197,11 +286,12 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> ApiException.notFound("User not found with ID: " + userId));
         
-        UserRole role = userRoleRepository.findByRoleName(roleName)
+        UserRole role = userRoleCache.findByRoleName(roleName)
                 .orElseThrow(() -> ApiException.notFound("Role not found: " + roleName));
         
         user.addRole(role);
         userRepository.save(user);
+        userAuthorityCache.invalidate(userId);
         log.info("Role {} assigned successfully to user with ID: {}", roleName, userId);
     }
     
@@ -212,22 +302,48 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> ApiException.notFound("User not found with ID: " + userId));
         
-        UserRole role = userRoleRepository.findByRoleName(roleName)
+        UserRole role = userRoleCache.findByRoleName(roleName)
                 .orElseThrow(() -> ApiException.notFound("Role not found: " + roleName));
         
         user.removeRole(role);
         userRepository.save(user);
+        userAuthorityCache.invalidate(userId);
         log.info("Role {} removed successfully from user with ID: {}", roleName, userId);
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updateLastLogin(UUID userId) {
-        log.debug("Updating last login for user with ID: {}", userId);
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> ApiException.notFound("User not found with ID: " + userId));
+        log.debug("Recording last login for user with ID: {}", userId);
         
-        user.updateLastLogin();
-        userRepository.save(user);
+        // Coalesced and written in batches; see LastLoginRecorder
+        lastLoginRecorder.record(userId);
+    }
+    
+    private List<User> withRoles(List<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, User> loaded = userRepository.findAllWithRoles(userIds).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+        return userIds.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
+    private void ensureIdentityAvailable(String email, String username) {
+        for (UserIdentity taken : userRepository.findIdentities(email, username)) {
+            if (taken.email().equalsIgnoreCase(email)) {
+                throw ApiException.conflict("User with email " + email + " already exists");
+            }
+            throw ApiException.conflict("Username " + username + " is already taken");
+        }
+    }
+    
+    private record UserRegistered(UUID userId, String email, String username, Instant occurredAt) {
+    }
+    
+    private record UserVerified(UUID userId, Instant occurredAt) {
     }
 } 
\ No newline at end of file